@@ -1,5 +1,6 @@
 package com.todolist.auth.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +18,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -24,10 +26,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. JWT 토큰 추출
         String token = extractToken(request);
 
-        // 2. 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 2. 토큰 유효성 검사 (검증된 토큰은 캐시에서 바로 Claims를 꺼냄)
+        // 3. 폐기 여부 확인 (DB 조회 없이 메모리의 폐기 목록만 확인)
+        Claims claims = token != null ? jwtTokenProvider.resolveClaims(token) : null;
+        if (claims != null && jwtTokenProvider.isAccessToken(claims) && !tokenRevocationList.isRevoked(claims)) {
 
-            UsernamePasswordAuthenticationToken authentication = jwtTokenProvider.getAuthentication(token);
+            UsernamePasswordAuthenticationToken authentication = jwtTokenProvider.getAuthentication(claims);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
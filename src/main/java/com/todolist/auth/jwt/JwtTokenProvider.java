@@ -1,9 +1,6 @@
 package com.todolist.auth.jwt;
 
 import com.todolist.auth.user.CustomUserService;
-import com.todolist.entity.Member;
-import com.todolist.exception.UnauthorizedException;
-import com.todolist.auth.jwt.dto.JwtToken;
 import com.todolist.auth.user.CustomUserDetails;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -20,79 +17,131 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
-    private static final long JWT_TOKEN_VALID = 1000 * 60 * 60; // 1시간
+    public static final long JWT_TOKEN_VALID = 1000 * 60 * 60; // 1시간
+    public static final long REFRESH_TOKEN_VALID = 1000L * 60 * 60 * 24 * 14; // 14일
+
+    private static final String TYPE_CLAIM = "typ";
+    private static final String REFRESH_TYPE = "refresh";
+    public static final String FAMILY_CLAIM = "fid";
 
     private final Key key;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CustomUserService customUserService;
+    private final boolean claimsOnlyAuth;
 
     /**
      * application-secret.yml에서 secret 값을 가져와서 key에 저장
+     * 파서는 불변이므로 한 번만 만들어 재사용
      * @param secretKey
+     * @param claimsOnlyAuth true면 회원 조회 없이 Claims만으로 인증 객체를 만듦
      */
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, CustomUserService customUserService) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.claims-only-auth:false}") boolean claimsOnlyAuth,
+                            VerifiedTokenCache verifiedTokenCache,
+                            CustomUserService customUserService) {
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
         this.customUserService = customUserService;
+        this.claimsOnlyAuth = claimsOnlyAuth;
     }
 
     /**
-     * Member 정보를 가지고 AccessToken, RefreshToken을 생성
+     * 회원 정보로 AccessToken 생성
+     * - jti: 만료 전에 토큰을 폐기할 때(로그아웃) 폐기 목록에 넣는 고유 ID
+     * - fid: 함께 발급한 RefreshToken의 계열 ID (계열이 폐기되면 그 계열에서 발급한 AccessToken도 함께 폐기)
      */
-    public JwtToken createToken(Object payload) {
-
-        Member member = (Member) payload;
+    public String createAccessToken(Long tokenId, Long familyId, Long memberId, String email, String nickname) {
 
         long now = new Date().getTime();
 
-        // Access Token 생성
-        String accessToken = Jwts.builder()
-                .claim("id", member.getId())
-                .claim("email", member.getEmail())
+        return Jwts.builder()
+                .setId(String.valueOf(tokenId))
+                .claim(FAMILY_CLAIM, familyId)
+                .claim("id", memberId)
+                .claim("email", email)
+                .claim("nickname", nickname)
                 .setExpiration(new Date(now + JWT_TOKEN_VALID))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
+    }
 
-        // Refresh Token 생성
-        String refreshToken = Jwts.builder()
-                .setExpiration(new Date(now + JWT_TOKEN_VALID))
+    /**
+     * RefreshToken 생성
+     * - 재발급 시 회원 조회 없이 AccessToken을 만들 수 있도록 회원 정보를 담는다.
+     * - fid: 처음 로그인할 때 정해지고 재발급해도 유지되는 토큰 계열 ID (재사용이 감지되면 계열 전체를 폐기)
+     * - jti: 같은 시각에 발급해도 토큰 문자열이 겹치지 않도록 넣는 고유 ID
+     */
+    public String createRefreshToken(Long memberId, String email, String nickname, Long familyId, Long tokenId, long expiresAt) {
+        return Jwts.builder()
+                .setId(String.valueOf(tokenId))
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
+                .claim(FAMILY_CLAIM, familyId)
+                .claim("id", memberId)
+                .claim("email", email)
+                .claim("nickname", nickname)
+                .setExpiration(new Date(expiresAt))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
+    }
 
-        return new JwtToken(accessToken, refreshToken);
+    /**
+     * RefreshToken의 서명, 만료를 검증하고 Claims를 꺼내는 메서드
+     * - 한 번 쓰면 교체되는 토큰이므로 VerifiedTokenCache에 넣지 않음
+     * @return 유효하지 않거나 RefreshToken이 아니면 null
+     */
+    public Claims resolveRefreshClaims(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class)) ? claims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid Refresh Token: {}", e.getMessage());
+        }
+        return null;
     }
 
     /**
-     * JWT 토믄을 복호화하여 토큰에 들어 있는 정보를 꺼내는 메서드
+     * 인증에 쓸 수 있는 AccessToken인지 확인 (RefreshToken으로는 API를 호출할 수 없음)
      */
-    public UsernamePasswordAuthenticationToken getAuthentication(String token) {
-        Claims claims = parseClaims(token); // JWT 토큰 복호화
-        Long memberId = claims.get("id", Long.class);
-        CustomUserDetails userDetails = customUserService.loadUserByUserId(memberId);
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    public boolean isAccessToken(Claims claims) {
+        return claims.get("id") != null && !REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰에서 Claims를 꺼내는 메서드
+     * - 이미 검증한 토큰이면 캐시에서 바로 반환 (서명 검증 생략)
+     * - 처음 보는 토큰이면 서명, 만료를 한 번만 검증한 뒤 캐시에 저장
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Claims resolveClaims(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT Token: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key.getEncoded())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn(e.getMessage());
-            throw new UnauthorizedException();
-        }
+    /**
+     * 검증된 Claims로 인증 객체를 만드는 메서드
+     * - claims-only 모드: Claims만으로 사용자 정보를 구성 (DB 조회 없음)
+     * - 그 외: 회원이 실제로 존재하는지 DB에서 확인
+     */
+    public UsernamePasswordAuthenticationToken getAuthentication(Claims claims) {
+        Long memberId = claims.get("id", Long.class);
+        CustomUserDetails userDetails = claimsOnlyAuth
+                ? new CustomUserDetails(memberId, claims.get("email", String.class), claims.get("nickname", String.class))
+                : customUserService.loadUserByUserId(memberId);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
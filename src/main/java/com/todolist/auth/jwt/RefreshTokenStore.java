@@ -0,0 +1,202 @@
+package com.todolist.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.todolist.entity.RefreshToken;
+import com.todolist.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 발급한 RefreshToken 저장소 (refresh_token 테이블 + 메모리 캐시)
+ * - 토큰의 jti를 PK로 사용하므로 재발급 시 캐시에 없어도 PK 조회 한 번으로 찾는다.
+ * - 캐시는 조회만 줄이는 용도이고, 사용 처리는 항상 DB의 조건부 UPDATE로 판단한다.
+ *   (다른 인스턴스에서 먼저 사용했거나 폐기했어도 UPDATE 결과가 0이 되어 재사용으로 판단됨)
+ * - 캐시 변경은 롤백된 발급, 사용 처리가 남지 않도록 커밋 이후에 반영한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore implements MeterBinder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO refresh_token (id, member_id, family_id, token_hash, expires_at, used) VALUES (?, ?, ?, ?, ?, false)";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final Cache<Long, Entry> cache;
+
+    private final LongAdder revokedFamilies = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionOperations transactionOperations,
+                             @Value("${jwt.refresh.cache.max-size:10000}") long maxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return 없거나 이미 삭제(폐기, 만료)된 토큰이면 null
+     */
+    public Entry find(Long id) {
+        Entry cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return refreshTokenRepository.findById(id)
+                .map(Entry::from)
+                .orElse(null);
+    }
+
+    public void save(Entry entry) {
+        jdbcTemplate.update(INSERT_SQL, entry.id(), entry.memberId(), entry.familyId(), entry.tokenHash(), entry.expiresAt());
+        afterCommit(() -> cache.put(entry.id(), entry));
+    }
+
+    /**
+     * 토큰을 사용 처리
+     * @return 이번 요청이 처음 사용한 것이면 true, 이미 사용됐거나 삭제된 토큰이면 false
+     */
+    public boolean markUsed(Entry entry) {
+        if (entry.used()) {
+            return false;
+        }
+        if (refreshTokenRepository.markUsed(entry.id()) == 0) {
+            return false;
+        }
+        afterCommit(() -> cache.put(entry.id(), entry.markUsed()));
+        return true;
+    }
+
+    /**
+     * 같은 계열의 토큰을 모두 삭제 (재사용 감지, 로그아웃)
+     * - 드물게 일어나므로 캐시는 전체를 훑어서 제거
+     * @return 삭제한 토큰 수
+     */
+    public int revokeFamily(Long familyId) {
+        int deleted = refreshTokenRepository.deleteByFamilyId(familyId);
+        revokedFamilies.increment();
+        afterCommit(() -> cache.asMap().values().removeIf(entry -> entry.familyId().equals(familyId)));
+        return deleted;
+    }
+
+    /**
+     * 만료된 토큰 삭제 (만료 시각 인덱스 범위 삭제)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}",
+            initialDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        try {
+            Integer deleted = transactionOperations.execute(status ->
+                    refreshTokenRepository.deleteExpired(System.currentTimeMillis()));
+            int count = deleted != null ? deleted : 0;
+            purged.add(count);
+            return count;
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 삭제
+            log.warn("만료된 RefreshToken 삭제 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 해시 (Base64URL, 패딩 없이 43자)
+     */
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * cache.gets{cache=jwt.refresh-token}, jwt.refresh-token.revoked-families, jwt.refresh-token.purged
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.refresh-token");
+        FunctionCounter.builder("jwt.refresh-token.revoked-families", revokedFamilies, LongAdder::sum)
+                .description("재사용 감지, 로그아웃으로 폐기한 RefreshToken 계열 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.refresh-token.purged", purged, LongAdder::sum)
+                .description("만료되어 삭제한 RefreshToken 수")
+                .register(registry);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record Entry(Long id, Long memberId, Long familyId, String tokenHash, long expiresAt, boolean used) {
+
+        static Entry from(RefreshToken refreshToken) {
+            return new Entry(refreshToken.getId(), refreshToken.getMemberId(), refreshToken.getFamilyId(),
+                    refreshToken.getTokenHash(), refreshToken.getExpiresAt(), refreshToken.isUsed());
+        }
+
+        Entry markUsed() {
+            return new Entry(id, memberId, familyId, tokenHash, expiresAt, true);
+        }
+    }
+
+    /**
+     * 토큰의 만료 시각까지 남은 시간만큼만 캐시에 유지
+     */
+    private static class EntryExpiry implements Expiry<Long, Entry> {
+
+        @Override
+        public long expireAfterCreate(Long id, Entry entry, long currentTime) {
+            long remainingMillis = entry.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long id, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long id, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.todolist.auth.jwt;
+
+import com.todolist.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기된 AccessToken 목록 (revoked_token 테이블의 메모리 사본)
+ * - 인증할 때마다 DB를 조회하지 않도록 폐기된 jti를 Bloom 필터와 정확한 집합(Map)으로 메모리에 유지한다.
+ * - 대부분의 요청은 Bloom 필터에서 "없음"으로 끝나고(락 없이 비트 몇 개만 확인), 있을 수도 있다고 나온 경우만 Map을 확인한다.
+ * - 이 서버에서 폐기한 토큰은 커밋 직후 반영되고, 다른 서버에서 폐기한 토큰은 주기적으로 테이블을 다시 읽을 때 반영된다.
+ * - 만료된 토큰은 서명 검증에서 이미 걸러지므로 다시 읽을 때 메모리와 테이블에서 함께 삭제한다.
+ * - RefreshToken 계열이 폐기되면 계열 ID(fid)도 같은 목록에 넣어, 그 계열에서 발급한 AccessToken을 모두 막는다.
+ *   (jti와 계열 ID는 같은 SnowflakeIdGenerator에서 발급하므로 겹치지 않음)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private static final String SELECT_SQL = "SELECT id, expires_at FROM revoked_token WHERE expires_at > ?";
+    private static final String INSERT_SQL = "INSERT INTO revoked_token (id, expires_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionOperations transactionOperations;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 다시 읽을 때 통째로 교체 (읽기는 락 없이, 쓰기는 writeLock으로 순서를 맞춤)
+    private volatile Snapshot snapshot;
+    private final Object writeLock = new Object();
+
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public TokenRevocationList(JdbcTemplate jdbcTemplate,
+                               RevokedTokenRepository revokedTokenRepository,
+                               TransactionOperations transactionOperations,
+                               @Value("${jwt.revocation.expected-insertions:10000}") int expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionOperations = transactionOperations;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = Snapshot.of(new ConcurrentHashMap<>(), expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (토큰 자체나 토큰이 속한 계열이 폐기되었으면 true)
+     */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && isRevoked(Long.parseLong(jti))) {
+            return true;
+        }
+
+        Long familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, Long.class);
+        return familyId != null && isRevoked(familyId);
+    }
+
+    public boolean isRevoked(long tokenId) {
+        Snapshot current = snapshot;
+        if (!current.bloomFilter().mightContain(tokenId)) {
+            return false;
+        }
+
+        bloomPositives.increment();
+        if (current.revoked().containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각까지만 보관)
+     * - 이미 폐기된 토큰이면 아무것도 하지 않음
+     */
+    public void revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+
+        revoke(Long.parseLong(claims.getId()), claims.getExpiration().getTime());
+    }
+
+    /**
+     * RefreshToken 계열에서 발급한 AccessToken 전체 폐기
+     * - 계열의 AccessToken은 늦어도 지금부터 AccessToken 유효 기간이 지나면 모두 만료되므로 그때까지만 보관
+     */
+    public void revokeFamily(Long familyId) {
+        revoke(familyId, System.currentTimeMillis() + JwtTokenProvider.JWT_TOKEN_VALID);
+    }
+
+    private void revoke(long tokenId, long expiresAt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, tokenId, expiresAt);
+        } catch (DuplicateKeyException e) {
+            return;
+        }
+        afterCommit(() -> add(tokenId, expiresAt));
+    }
+
+    /**
+     * 테이블을 다시 읽어 Bloom 필터와 Map을 새로 만듦
+     * - 폐기된 토큰 수에 맞춰 Bloom 필터 크기를 다시 정하고, 만료된 토큰은 빠진다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    public void reload() {
+        long now = System.currentTimeMillis();
+        try {
+            transactionOperations.executeWithoutResult(status -> revokedTokenRepository.deleteExpired(now));
+
+            Map<Long, Long> loaded = new ConcurrentHashMap<>();
+            jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) rs -> loaded.put(rs.getLong(1), rs.getLong(2)), now);
+
+            synchronized (writeLock) {
+                // 테이블을 읽는 동안 이 서버에서 폐기한 토큰도 잃지 않도록 합침
+                snapshot.revoked().forEach((tokenId, expiresAt) -> {
+                    if (expiresAt > now) {
+                        loaded.putIfAbsent(tokenId, expiresAt);
+                    }
+                });
+                snapshot = Snapshot.of(loaded, Math.max(expectedInsertions, loaded.size() * 2), falsePositiveRate);
+            }
+        } catch (DataAccessException e) {
+            // 실패하면 이전 목록을 그대로 사용
+            log.warn("폐기된 토큰 목록 갱신 실패: message = {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return snapshot.revoked().size();
+    }
+
+    // Map에 먼저 넣어야 Bloom 필터에서 "있을 수도 있음"이 나왔을 때 Map에서 찾을 수 있음
+    private void add(long tokenId, long expiresAt) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            current.revoked().put(tokenId, expiresAt);
+            current.bloomFilter().put(tokenId);
+        }
+    }
+
+    /**
+     * jwt.revocation.size : 메모리에 올라온 폐기 토큰 수
+     * jwt.revocation.bloom.positives, jwt.revocation.bloom.false-positives : Bloom 필터 오탐률 확인용
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revocation.size", this, TokenRevocationList::size)
+                .description("메모리에 올라온 폐기 토큰 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.bloom.positives", bloomPositives, LongAdder::sum)
+                .description("Bloom 필터가 폐기되었을 수도 있다고 판단해 Map을 확인한 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.bloom.false-positives", falsePositives, LongAdder::sum)
+                .description("Bloom 필터 오탐 수 (Map에는 없던 토큰)")
+                .register(registry);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Snapshot(Map<Long, Long> revoked, BloomFilter bloomFilter) {
+
+        static Snapshot of(Map<Long, Long> revoked, int capacity, double falsePositiveRate) {
+            BloomFilter bloomFilter = new BloomFilter(capacity, falsePositiveRate);
+            revoked.keySet().forEach(bloomFilter::put);
+            return new Snapshot(revoked, bloomFilter);
+        }
+    }
+
+    /**
+     * long 키 전용 Bloom 필터
+     * - 비트 배열은 AtomicLongArray라서 조회 중에 추가되어도 락이 필요 없다.
+     * - 해시 하나(SplitMix64)를 두 개로 나눠 k개의 위치를 만든다. (h1 + i * h2)
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            int n = Math.max(capacity, 1);
+            // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+            long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.max(1, (bits + 63) / 64);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        }
+
+        void put(long key) {
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+            }
+        }
+
+        boolean mightContain(long key) {
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long bitCount() {
+            return bitCount;
+        }
+
+        int hashCount() {
+            return hashCount;
+        }
+
+        // Snowflake ID는 하위 비트가 순서대로 증가하므로 골고루 퍼지도록 섞음
+        private static long mix(long key) {
+            long z = key + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
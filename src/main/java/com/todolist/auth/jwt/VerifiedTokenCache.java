@@ -0,0 +1,80 @@
+package com.todolist.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims를 보관하는 캐시
+ * - 같은 토큰이 다시 들어오면 파싱, 서명 검증 없이 Claims를 돌려준다.
+ * - 각 항목은 토큰의 exp 시각에 만료된다.
+ * - 키는 토큰 문자열 자체이므로 해시 충돌로 다른 토큰의 Claims가 반환될 일이 없다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public Claims get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    public void put(String token, Claims claims) {
+        // 만료 시각이 없는 토큰은 언제 제거해야 할지 알 수 없으므로 캐시하지 않음
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        cache.put(token, claims);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions 등을 /actuator/metrics 로 노출
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified-token");
+    }
+
+    /**
+     * 토큰의 exp 시각까지 남은 시간만큼만 캐시에 유지
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
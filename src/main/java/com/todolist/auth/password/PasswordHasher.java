@@ -0,0 +1,178 @@
+package com.todolist.auth.password;
+
+import com.todolist.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ * - BCrypt는 CPU를 오래 쓰므로 요청 스레드에서 직접 실행하지 않고 크기가 정해진 풀에서 실행한다.
+ *   (로그인이 몰려도 해시에 쓰는 코어 수가 제한되어 다른 API 처리가 밀리지 않음)
+ * - 대기열이 가득 차거나 timeout 안에 끝나지 않으면 기다리지 않고 503으로 응답한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements MeterBinder {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder rejected = new LongAdder();
+    private final Stats encodeStats = new Stats();
+    private final Stats matchesStats = new Stats();
+    private final Stats waitStats = new Stats();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${password.hash.threads:0}") int threads,
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hash.timeout-ms:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // 기본값은 코어의 절반 -> 나머지 코어는 일반 요청 처리에 남김
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeStats);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesStats);
+    }
+
+    /**
+     * 저장된 해시의 strength가 현재 설정보다 낮은지 확인 (해시 계산 없이 문자열만 확인하므로 풀을 거치지 않음)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task, Stats stats) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitStats.record(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    stats.record(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 가득 참: queued = {}", queuedTasks());
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future);
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future);
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 기다리지 않기로 한 작업 취소
+     * - 실행 중이면 결과만 버린다. (BCrypt 계산은 인터럽트로 멈추지 않음)
+     * - 아직 시작하지 않았으면 실행되지는 않지만 cancel만으로는 대기열에 남아 자리를 차지하므로 대기열에서 직접 제거한다.
+     */
+    private void cancel(Future<?> future) {
+        future.cancel(false);
+        executor.remove((Runnable) future);
+    }
+
+    /**
+     * password.hash{operation=encode|matches} : 해시 계산 시간
+     * password.hash.wait : 대기열에서 기다린 시간
+     * password.hash.queue, password.hash.active, password.hash.rejected : 튜닝용 대기열 상태
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeStats.register(registry, "password.hash", Tags.of("operation", "encode"), "비밀번호 해시 계산 시간");
+        matchesStats.register(registry, "password.hash", Tags.of("operation", "matches"), "비밀번호 해시 계산 시간");
+        waitStats.register(registry, "password.hash.wait", Tags.empty(), "비밀번호 해시 대기열에서 기다린 시간");
+        Gauge.builder("password.hash.queue", this, PasswordHasher::queuedTasks)
+                .description("비밀번호 해시 대기열 길이")
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 중인 스레드 수")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", rejected, LongAdder::sum)
+                .description("대기열이 가득 차거나 시간이 초과되어 503으로 응답한 수")
+                .register(registry);
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        private void register(MeterRegistry registry, String name, Tags tags, String description) {
+            FunctionTimer.builder(name, this, stats -> stats.count.sum(), stats -> stats.totalNanos.sum(), TimeUnit.NANOSECONDS)
+                    .tags(tags)
+                    .description(description)
+                    .register(registry);
+        }
+    }
+}
@@ -8,7 +8,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-public record CustomUserDetails(Member member) implements UserDetails {
+/**
+ * 인증된 사용자 정보
+ * - JWT Claims(id, email, nickname)만으로 만들 수 있는 불변 객체
+ * - 엔티티를 들고 있지 않으므로 비밀번호 해시가 SecurityContext에 남지 않는다.
+ */
+public record CustomUserDetails(Long id, String email, String nickname) implements UserDetails {
+
+    public static CustomUserDetails from(Member member) {
+        return new CustomUserDetails(member.getId(), member.getEmail(), member.getNickname());
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -17,12 +26,12 @@ public record CustomUserDetails(Member member) implements UserDetails {
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     @Override
@@ -15,6 +15,6 @@ public class CustomUserService {
     public CustomUserDetails loadUserByUserId(Long userId) throws UsernameNotFoundException {
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다: userId = " + userId));
-        return new CustomUserDetails(member);
+        return CustomUserDetails.from(member);
     }
 }
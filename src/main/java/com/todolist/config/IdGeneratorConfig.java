@@ -0,0 +1,20 @@
+package com.todolist.config;
+
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * JDBC로 직접 INSERT 할 때 사용하는 ID 생성기
+     * - 엔티티의 @SnowflakeId 와 같은 노드 ID, 같은 인스턴스를 사용해 ID가 겹치지 않게 한다.
+     * - 인스턴스끼리 노드 ID가 같으면 ID가 겹칠 수 있으므로 기본값 없이 설정을 필수로 한다.
+     */
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${spring.jpa.properties.id-generator.node-id}") long nodeId) {
+        return SnowflakeIdGenerator.forNode(nodeId);
+    }
+}
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.todolist.exception.dto.ExceptionResponse;
 import com.todolist.auth.jwt.JwtAuthenticationFilter;
 import com.todolist.auth.jwt.JwtTokenProvider;
+import com.todolist.auth.jwt.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
     private final ObjectMapper objectMapper;
 
     @Bean
@@ -34,11 +37,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/v3/api-docs/**", "/swagger-resources/**", "/swagger-ui/**", "/swagger-ui.html", "/webjars/**", // Swagger 접근 허용
-                                "/member/register", "/member/login") // 회원가입, 로그인 시 요청 허가
+                                "/member/register", "/member/login", "/member/refresh") // 회원가입, 로그인, 토큰 재발급 시 요청 허가
                         .permitAll()
                         .anyRequest().authenticated())
                 .exceptionHandling(e -> e.authenticationEntryPoint(authenticationEntryPoint()))
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationList), UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
@@ -54,8 +57,11 @@ public class SecurityConfig {
         };
     }
 
+    /**
+     * strength를 올리면 기존 해시는 로그인에 성공할 때 새 strength로 다시 저장됨 (MemberService.login)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,31 @@
+package com.todolist.controller;
+
+import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.controller.docs.FeedControllerDocs;
+import com.todolist.service.FeedService;
+import com.todolist.service.dto.response.FeedResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class FeedController implements FeedControllerDocs {
+
+    private final FeedService feedService;
+
+    @GetMapping("/feed")
+    public ResponseEntity<FeedResponse> readFeed(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        FeedResponse response = feedService.readFeed(userDetails.id(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
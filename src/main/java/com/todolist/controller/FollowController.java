@@ -3,19 +3,26 @@ package com.todolist.controller;
 import com.todolist.auth.user.CustomUserDetails;
 import com.todolist.controller.docs.FollowControllerDocs;
 import com.todolist.service.FollowService;
+import com.todolist.service.dto.response.FollowCursorListResponse;
 import com.todolist.service.dto.response.FollowingListResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class FollowController implements FollowControllerDocs {
 
+    // 팔로우한 사람만 볼 수 있는 데이터이므로 공유 캐시에는 저장하지 않고, 매번 ETag로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final FollowService followService;
 
     @GetMapping("/following")
@@ -23,7 +30,27 @@ public class FollowController implements FollowControllerDocs {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(name = "page", defaultValue = "0") int pageNum
     ) {
-        FollowingListResponse response = followService.getFollowings(userDetails.member(), pageNum);
+        FollowingListResponse response = followService.getFollowings(userDetails.id(), pageNum);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/following", params = "size")
+    public ResponseEntity<FollowCursorListResponse> readFollowingListByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size") int size
+    ) {
+        FollowCursorListResponse response = followService.getFollowingsByCursor(userDetails.id(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/follower")
+    public ResponseEntity<FollowCursorListResponse> readFollowerList(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        FollowCursorListResponse response = followService.getFollowers(userDetails.id(), cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -32,7 +59,7 @@ public class FollowController implements FollowControllerDocs {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable(name = "followeeId") Long followeeId
     ) {
-        followService.follow(userDetails.member(), followeeId);
+        followService.follow(userDetails.id(), followeeId);
         return ResponseEntity.noContent().build();
     }
 
@@ -41,7 +68,7 @@ public class FollowController implements FollowControllerDocs {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable(name = "followeeId") Long followeeId
     ) {
-        followService.unfollow(userDetails.member(), followeeId);
+        followService.unfollow(userDetails.id(), followeeId);
         return ResponseEntity.noContent().build();
     }
 
@@ -49,9 +76,31 @@ public class FollowController implements FollowControllerDocs {
     public ResponseEntity<TodoListResponse> readFolloweeTodoList(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable(name = "followeeId") Long followeeId,
-            @RequestParam(name = "page", defaultValue = "0") int pageNum
+            @RequestParam(name = "page", defaultValue = "0") int pageNum,
+            WebRequest webRequest
     ) {
-        TodoListResponse response = followService.readFolloweeTodoList(userDetails.member(), followeeId, pageNum);
-        return ResponseEntity.ok(response);
+        // If-None-Match가 현재 ETag와 같으면 목록 조회 없이 304 응답 (ETag 조회에서 팔로우 여부도 확인)
+        if (webRequest.checkNotModified(followService.getFolloweeTodoListETag(userDetails.id(), followeeId))) {
+            return null;
+        }
+
+        TodoListResponse response = followService.readFolloweeTodoList(userDetails.id(), followeeId, pageNum);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+    @GetMapping(value = "/follow/{followeeId}/todo", params = "size")
+    public ResponseEntity<TodoCursorListResponse> readFolloweeTodoListByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable(name = "followeeId") Long followeeId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size") int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(followService.getFolloweeTodoListETag(userDetails.id(), followeeId))) {
+            return null;
+        }
+
+        TodoCursorListResponse response = followService.readFolloweeTodoListByCursor(userDetails.id(), followeeId, cursor, size);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
 }
@@ -1,15 +1,24 @@
 package com.todolist.controller;
 
 import com.todolist.auth.jwt.dto.JwtToken;
+import com.todolist.auth.user.CustomUserDetails;
 import com.todolist.controller.docs.MemberControllerDocs;
 import com.todolist.service.MemberService;
+import com.todolist.service.RefreshTokenService;
 import com.todolist.service.dto.request.MemberRequest;
+import com.todolist.service.dto.request.RefreshTokenRequest;
+import com.todolist.service.dto.response.MemberProfileResponse;
 import com.todolist.service.dto.response.RegisterResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class MemberController implements MemberControllerDocs {
 
     private final MemberService memberService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/register")
     public ResponseEntity<RegisterResponse> register(@RequestBody MemberRequest request) {
@@ -31,4 +41,30 @@ public class MemberController implements MemberControllerDocs {
         JwtToken token = memberService.login(request);
         return ResponseEntity.status(HttpStatus.OK).body(token);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtToken> refresh(@RequestBody RefreshTokenRequest request) {
+        JwtToken token = refreshTokenService.rotate(request.refreshToken());
+        return ResponseEntity.ok(token);
+    }
+
+    /**
+     * 인증된 요청만 들어오므로 Authorization 헤더는 항상 "Bearer {토큰}" 형식
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        String accessToken = authorization.substring("Bearer ".length());
+        refreshTokenService.logout(userDetails.id(), accessToken, request != null ? request.refreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{memberId}")
+    public ResponseEntity<MemberProfileResponse> readProfile(@PathVariable(name = "memberId") Long memberId) {
+        MemberProfileResponse response = memberService.getProfile(memberId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,30 @@
+package com.todolist.controller;
+
+import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.controller.docs.SuggestionControllerDocs;
+import com.todolist.service.SuggestionService;
+import com.todolist.service.dto.response.SuggestionListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class SuggestionController implements SuggestionControllerDocs {
+
+    private final SuggestionService suggestionService;
+
+    @GetMapping("/follow/suggestions")
+    public ResponseEntity<SuggestionListResponse> readSuggestions(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        SuggestionListResponse response = suggestionService.getSuggestions(userDetails.id(), size);
+        return ResponseEntity.ok(response);
+    }
+}
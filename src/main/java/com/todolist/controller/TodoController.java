@@ -2,18 +2,28 @@ package com.todolist.controller;
 
 import com.todolist.auth.user.CustomUserDetails;
 import com.todolist.controller.docs.TodoControllerDocs;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.service.TodoImportService;
 import com.todolist.service.TodoService;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.request.TodoStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoStatusUpdateRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
+import com.todolist.service.dto.response.TodoImportResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import com.todolist.service.dto.response.TodoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -22,24 +32,60 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TodoController implements TodoControllerDocs {
 
+    // 회원 개인 데이터이므로 공유 캐시에는 저장하지 않고, 매번 ETag로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TodoService todoService;
+    private final TodoImportService todoImportService;
 
     @PostMapping
     public ResponseEntity<TodoResponse> createTodo(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody TodoRequest request
     ) {
-        TodoResponse response = todoService.createTodo(userDetails.member(), request);
+        TodoResponse response = todoService.createTodo(userDetails.id(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            InputStream body
+    ) {
+        // 본문을 객체 목록으로 바인딩하지 않고 스트림 그대로 넘겨 항목 단위로 읽음
+        TodoImportResponse response = todoImportService.importTodos(userDetails.id(), body);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping
     public ResponseEntity<TodoListResponse> readTodoList(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @RequestParam(name = "page", defaultValue = "0") int pageNum
+            @RequestParam(name = "page", defaultValue = "0") int pageNum,
+            WebRequest webRequest
     ) {
-        TodoListResponse response = todoService.readTodoList(userDetails.member(), pageNum);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        // If-None-Match가 현재 ETag와 같으면 목록 조회 없이 304 응답
+        if (webRequest.checkNotModified(todoService.getTodoListETag(userDetails.id()))) {
+            return null;
+        }
+
+        TodoListResponse response = todoService.readTodoList(userDetails.id(), pageNum);
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(response);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<TodoCursorListResponse> readTodoListByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size") int size,
+            @RequestParam(name = "status", required = false) TodoStatus status,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(todoService.getTodoListETag(userDetails.id()))) {
+            return null;
+        }
+
+        TodoCursorListResponse response = todoService.readTodoListByCursor(userDetails.id(), status, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(response);
     }
 
     @PatchMapping("/{todoId}")
@@ -48,7 +94,16 @@ public class TodoController implements TodoControllerDocs {
             @PathVariable(name = "todoId") Long todoId,
             @RequestBody TodoStatusUpdateRequest request
     ) {
-        TodoResponse response = todoService.updateTodoStatus(userDetails.member(), todoId, request);
+        TodoResponse response = todoService.updateTodoStatus(userDetails.id(), todoId, request);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PatchMapping
+    public ResponseEntity<StatusBatchUpdateResponse> updateTodoStatuses(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody List<TodoStatusBatchUpdateRequest> requests
+    ) {
+        StatusBatchUpdateResponse response = todoService.updateTodoStatuses(userDetails.id(), requests);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -58,6 +113,6 @@ public class TodoController implements TodoControllerDocs {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(name = "ids") List<Long> todoIds
     ) {
-        todoService.deleteTodo(userDetails.member(), todoIds);
+        todoService.deleteTodo(userDetails.id(), todoIds);
     }
 }
@@ -3,8 +3,10 @@ package com.todolist.controller;
 import com.todolist.auth.user.CustomUserDetails;
 import com.todolist.controller.docs.TodoDetailControllerDocs;
 import com.todolist.service.TodoDetailService;
+import com.todolist.service.dto.request.TodoDetailStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoDetailStatusUpdateRequest;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
 import com.todolist.service.dto.response.TodoDetailResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -27,7 +29,7 @@ public class TodoDetailController implements TodoDetailControllerDocs {
             @PathVariable(name = "todoId") Long todoId,
             @RequestBody TodoRequest request
     ) {
-        TodoDetailResponse response = todoDetailService.createTodoDetail(userDetails.member(), todoId, request);
+        TodoDetailResponse response = todoDetailService.createTodoDetail(userDetails.id(), todoId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -37,7 +39,16 @@ public class TodoDetailController implements TodoDetailControllerDocs {
             @PathVariable(name = "todoDetailId") Long todoDetailId,
             @RequestBody TodoDetailStatusUpdateRequest request
     ) {
-        TodoDetailResponse response = todoDetailService.updateTodoDetailStatus(userDetails.member(), todoDetailId, request);
+        TodoDetailResponse response = todoDetailService.updateTodoDetailStatus(userDetails.id(), todoDetailId, request);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PatchMapping("/detail")
+    public ResponseEntity<StatusBatchUpdateResponse> updateTodoDetailStatuses(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody List<TodoDetailStatusBatchUpdateRequest> requests
+    ) {
+        StatusBatchUpdateResponse response = todoDetailService.updateTodoDetailStatuses(userDetails.id(), requests);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -47,6 +58,6 @@ public class TodoDetailController implements TodoDetailControllerDocs {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(name = "ids") List<Long> todoDetailIds
     ) {
-        todoDetailService.deleteTodoDetail(userDetails.member(), todoDetailIds);
+        todoDetailService.deleteTodoDetail(userDetails.id(), todoDetailIds);
     }
 }
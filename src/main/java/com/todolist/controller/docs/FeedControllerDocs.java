@@ -0,0 +1,24 @@
+package com.todolist.controller.docs;
+
+import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.service.dto.response.FeedResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Feed", description = "Feed API")
+public interface FeedControllerDocs {
+
+    @Operation(summary = "피드 조회", description = "팔로우한 사람들의 투두를 최신순으로 모아 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    ResponseEntity<FeedResponse> readFeed(
+            CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MTIz")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 사이즈 (1 ~ 50)", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    );
+}
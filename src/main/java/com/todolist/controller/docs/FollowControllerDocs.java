@@ -1,7 +1,9 @@
 package com.todolist.controller.docs;
 
 import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.service.dto.response.FollowCursorListResponse;
 import com.todolist.service.dto.response.FollowingListResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Follow", description = "Follow 관련 API")
 public interface FollowControllerDocs {
@@ -22,6 +25,26 @@ public interface FollowControllerDocs {
             @RequestParam(name = "page", defaultValue = "0") int pageNum
     );
 
+    @Operation(summary = "팔로잉 커서 기반 조회", description = "size 파라미터를 주면 회원 ID 순서로 커서 기반 조회합니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    ResponseEntity<FollowCursorListResponse> readFollowingListByCursor(
+            CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MTIz")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 사이즈 (1 ~ 50)", example = "20")
+            @RequestParam(name = "size") int size
+    );
+
+    @Operation(summary = "팔로워 조회", description = "나를 팔로우하는 유저 목록을 회원 ID 순서로 커서 기반 조회합니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    ResponseEntity<FollowCursorListResponse> readFollowerList(
+            CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MTIz")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 사이즈 (1 ~ 50)", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    );
+
     @Operation(summary = "팔로우", description = "팔로우를 요청합니다.")
     @ApiResponse(description = "팔로우 성공", responseCode = "204")
     ResponseEntity<Void> follow(
@@ -40,10 +63,25 @@ public interface FollowControllerDocs {
 
     @Operation(summary = "팔로잉 하는 유저의 투두 조회", description = "팔로잉 하는 유저의 투두 조회를 요청합니다.")
     @ApiResponse(description = "조회 성공", responseCode = "200")
+    @ApiResponse(description = "변경 없음 (If-None-Match가 현재 ETag와 일치)", responseCode = "304")
     ResponseEntity<TodoListResponse> readFolloweeTodoList(
             CustomUserDetails userDetails,
             @PathVariable(name = "followeeId") Long followeeId,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
-            @RequestParam(name = "page", defaultValue = "0") int pageNum
+            @RequestParam(name = "page", defaultValue = "0") int pageNum,
+            WebRequest webRequest
+    );
+
+    @Operation(summary = "팔로잉 하는 유저의 투두 커서 기반 조회", description = "size 파라미터를 주면 커서 기반으로 최신 투두부터 조회합니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    @ApiResponse(description = "변경 없음 (If-None-Match가 현재 ETag와 일치)", responseCode = "304")
+    ResponseEntity<TodoCursorListResponse> readFolloweeTodoListByCursor(
+            CustomUserDetails userDetails,
+            @PathVariable(name = "followeeId") Long followeeId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MTIz")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 사이즈 (1 ~ 50)", example = "10")
+            @RequestParam(name = "size") int size,
+            WebRequest webRequest
     );
 }
@@ -1,12 +1,17 @@
 package com.todolist.controller.docs;
 
 import com.todolist.auth.jwt.dto.JwtToken;
+import com.todolist.auth.user.CustomUserDetails;
 import com.todolist.service.dto.request.MemberRequest;
+import com.todolist.service.dto.request.RefreshTokenRequest;
+import com.todolist.service.dto.response.MemberProfileResponse;
 import com.todolist.service.dto.response.RegisterResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 
 @Tag(name = "Member", description = "Member API")
 public interface MemberControllerDocs {
@@ -18,4 +23,23 @@ public interface MemberControllerDocs {
     @Operation(summary = "로그인", description = "로그인을 요청합니다.")
     @ApiResponse(description = "로그인 성공", responseCode = "200")
     ResponseEntity<JwtToken> login(MemberRequest request);
+
+    @Operation(summary = "토큰 재발급", description = "refresh 토큰으로 access 토큰과 refresh 토큰을 다시 발급합니다. 사용한 refresh 토큰은 다시 사용할 수 없습니다.")
+    @ApiResponse(description = "재발급 성공", responseCode = "200")
+    ResponseEntity<JwtToken> refresh(RefreshTokenRequest request);
+
+    @Operation(summary = "로그아웃", description = "access 토큰을 폐기합니다. refresh 토큰을 함께 보내면 재발급도 더 이상 할 수 없습니다.")
+    @ApiResponse(description = "로그아웃 성공", responseCode = "204")
+    ResponseEntity<Void> logout(
+            CustomUserDetails userDetails,
+            @Parameter(hidden = true) String authorization,
+            RefreshTokenRequest request
+    );
+
+    @Operation(summary = "프로필 조회", description = "회원의 닉네임과 팔로워, 팔로잉 수를 조회합니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    ResponseEntity<MemberProfileResponse> readProfile(
+            @Parameter(description = "조회할 회원 ID", example = "2")
+            @PathVariable(name = "memberId") Long memberId
+    );
 }
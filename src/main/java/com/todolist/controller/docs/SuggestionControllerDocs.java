@@ -0,0 +1,22 @@
+package com.todolist.controller.docs;
+
+import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.service.dto.response.SuggestionListResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Follow", description = "Follow 관련 API")
+public interface SuggestionControllerDocs {
+
+    @Operation(summary = "팔로우 추천", description = "내가 팔로우한 사람들이 많이 팔로우하는 회원을 추천합니다. 추천 목록은 일정 주기로 다시 계산됩니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    ResponseEntity<SuggestionListResponse> readSuggestions(
+            CustomUserDetails userDetails,
+            @Parameter(description = "추천 수 (1 ~ 10)", example = "10")
+            @RequestParam(name = "size", defaultValue = "10") int size
+    );
+}
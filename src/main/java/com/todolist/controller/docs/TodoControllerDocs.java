@@ -1,17 +1,28 @@
 package com.todolist.controller.docs;
 
 import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.service.dto.request.TodoImportRequest;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.request.TodoStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoStatusUpdateRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
+import com.todolist.service.dto.response.TodoImportResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import com.todolist.service.dto.response.TodoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "Todo", description = "Todo API")
@@ -21,12 +32,40 @@ public interface TodoControllerDocs {
     @ApiResponse(description = "생성 성공", responseCode = "201")
     ResponseEntity<TodoResponse> createTodo(CustomUserDetails userDetails, TodoRequest request);
 
+    @Operation(summary = "투두 가져오기", description = "JSON 배열 또는 NDJSON(application/x-ndjson)으로 여러 투두와 세부 할 일(투두당 최대 3개)을 한 번에 저장합니다. 검증에 실패한 항목은 건너뛰고 결과에 사유를 담아 돌려줍니다.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+            @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = TodoImportRequest.class))),
+            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TodoImportRequest.class))
+    })
+    @ApiResponse(description = "가져오기 성공", responseCode = "201")
+    @ApiResponse(description = "본문을 읽을 수 없음 (앞선 항목까지는 저장됨)", responseCode = "400")
+    ResponseEntity<TodoImportResponse> importTodos(
+            CustomUserDetails userDetails,
+            @Parameter(hidden = true) InputStream body
+    );
+
     @Operation(summary = "투두 조회", description = "투두 조회를 요청합니다.")
     @ApiResponse(description = "조회 성공", responseCode = "200")
+    @ApiResponse(description = "변경 없음 (If-None-Match가 현재 ETag와 일치)", responseCode = "304")
     ResponseEntity<TodoListResponse> readTodoList(
             CustomUserDetails userDetails,
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
-            @RequestParam(name = "page", defaultValue = "0") int pageNum
+            @RequestParam(name = "page", defaultValue = "0") int pageNum,
+            WebRequest webRequest
+    );
+
+    @Operation(summary = "투두 커서 기반 조회", description = "size 파라미터를 주면 커서 기반으로 최신 투두부터 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @ApiResponse(description = "조회 성공", responseCode = "200")
+    @ApiResponse(description = "변경 없음 (If-None-Match가 현재 ETag와 일치)", responseCode = "304")
+    ResponseEntity<TodoCursorListResponse> readTodoListByCursor(
+            CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "MTIz")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 사이즈 (1 ~ 50)", example = "10")
+            @RequestParam(name = "size") int size,
+            @Parameter(description = "조회할 투두 상태 (생략 시 전체)", example = "IN_PROGRESS")
+            @RequestParam(name = "status", required = false) TodoStatus status,
+            WebRequest webRequest
     );
 
     @Operation(summary = "투두 상태 변경", description = "투두 진행 상태 변경을 요청합니다.")
@@ -38,6 +77,13 @@ public interface TodoControllerDocs {
             TodoStatusUpdateRequest request
     );
 
+    @Operation(summary = "투두 상태 일괄 변경", description = "여러 투두의 진행 상태를 한 번에 변경합니다. (최대 100개) 없는 투두나 다른 사용자의 투두는 건너뛰고 항목별 결과로 알려줍니다.")
+    @ApiResponse(description = "요청 처리 완료 (항목별 결과 포함)", responseCode = "200")
+    ResponseEntity<StatusBatchUpdateResponse> updateTodoStatuses(
+            CustomUserDetails userDetails,
+            List<TodoStatusBatchUpdateRequest> requests
+    );
+
     @Operation(summary = "투두 삭제", description = "투두 삭제를 요청합니다.")
     @ApiResponse(description = "삭제 성공", responseCode = "204")
     void deleteTodoList(
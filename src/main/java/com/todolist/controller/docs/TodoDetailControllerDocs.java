@@ -1,8 +1,10 @@
 package com.todolist.controller.docs;
 
 import com.todolist.auth.user.CustomUserDetails;
+import com.todolist.service.dto.request.TodoDetailStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoDetailStatusUpdateRequest;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
 import com.todolist.service.dto.response.TodoDetailResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,6 +36,13 @@ public interface TodoDetailControllerDocs {
             TodoDetailStatusUpdateRequest request
     );
 
+    @Operation(summary = "세부 할 일 상태 일괄 변경", description = "여러 세부 할 일의 진행 상태를 한 번에 변경합니다. (최대 100개) 없는 세부 할 일이나 다른 사용자의 세부 할 일은 건너뛰고 항목별 결과로 알려줍니다.")
+    @ApiResponse(description = "요청 처리 완료 (항목별 결과 포함)", responseCode = "200")
+    ResponseEntity<StatusBatchUpdateResponse> updateTodoDetailStatuses(
+            CustomUserDetails userDetails,
+            List<TodoDetailStatusBatchUpdateRequest> requests
+    );
+
     @Operation(summary = "세부 할 일 삭제", description = "세부 할 일 삭제를 요청합니다.")
     @ApiResponse(description = "삭제 성공", responseCode = "204")
     void deleteTodoDetail(
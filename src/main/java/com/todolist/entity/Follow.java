@@ -1,5 +1,6 @@
 package com.todolist.entity;
 
+import com.todolist.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,10 +10,16 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        // 중복 팔로우는 DB가 막고, 이 인덱스가 팔로워 기준 조회에도 사용됨
+        // 두 방향 모두 (기준 회원, 상대 회원) 복합 인덱스라 목록 조회가 테이블을 읽지 않고 인덱스 범위만 읽음
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_id_followee_id", columnNames = {"follower_id", "followee_id"}),
+        indexes = @Index(name = "idx_follow_followee_id_follower_id", columnList = "followee_id, follower_id")
+)
 public class Follow {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.todolist.entity;
 
+import com.todolist.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,11 +10,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "members")
+@Table(name = "members", indexes = @Index(name = "idx_members_follower_count", columnList = "follower_count"))
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "member_id")
     private Long id;
 
@@ -26,6 +27,13 @@ public class Member {
     @Column(nullable = false)
     private String nickname;
 
+    // 팔로우, 언팔로우 시 MemberRepository.adjustFollowCounts 로만 변경 (엔티티로 수정하면 동시 요청에서 갱신 손실)
+    @Column(nullable = false)
+    private Long followerCount = 0L;
+
+    @Column(nullable = false)
+    private Long followingCount = 0L;
+
     @Builder
     public Member(String email, String password, String nickname) {
         this.email = email;
@@ -0,0 +1,53 @@
+package com.todolist.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발급한 RefreshToken 기록
+ * - id는 토큰의 jti와 같으므로 재발급 시 PK 조회 한 번으로 찾는다.
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시(Base64URL, 43자)만 저장한다.
+ * - 같은 로그인에서 이어진 토큰은 같은 familyId를 가지며, 이미 사용된 토큰이 다시 들어오면 계열 전체를 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    // 토큰의 jti (발급할 때 SnowflakeIdGenerator로 먼저 만들어 토큰에 넣으므로 직접 지정)
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Long familyId;
+
+    @Column(nullable = false, length = 43)
+    private String tokenHash;
+
+    // 만료 시각 (epoch millis)
+    @Column(nullable = false)
+    private Long expiresAt;
+
+    // 재발급에 한 번 사용된 토큰인지 여부
+    @Column(nullable = false)
+    private boolean used;
+
+    @Builder
+    public RefreshToken(Long id, Long memberId, Long familyId, String tokenHash, Long expiresAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+}
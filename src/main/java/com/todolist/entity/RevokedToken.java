@@ -0,0 +1,33 @@
+package com.todolist.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 만료 전에 폐기한 AccessToken (로그아웃, 강제 폐기)
+ * - id는 토큰의 jti이고, 토큰이 만료되면 더 이상 확인할 필요가 없으므로 expiresAt이 지나면 삭제한다.
+ * - 이 테이블은 인증 시 직접 조회하지 않고 TokenRevocationList가 주기적으로 메모리에 올려서 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+
+    // 토큰의 jti (발급 시 Snowflake ID로 생성)
+    @Id
+    private Long id;
+
+    // 토큰 만료 시각 (epoch millis)
+    @Column(nullable = false)
+    private Long expiresAt;
+
+    @Builder
+    public RevokedToken(Long id, Long expiresAt) {
+        this.id = id;
+        this.expiresAt = expiresAt;
+    }
+}
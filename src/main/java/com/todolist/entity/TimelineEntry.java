@@ -0,0 +1,53 @@
+package com.todolist.entity;
+
+import com.todolist.entity.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팔로워별 타임라인 항목 (팔로우한 사람이 작성, 변경한 투두를 쓰기 시점에 미리 복사해 둔 것)
+ * - 피드 조회 시 Follow x Todo를 합치지 않도록 (투두 ID, 작성자 ID, 시각)만 담는다.
+ * - 연관관계 없이 ID만 저장하므로 항목 하나가 작고, 투두가 삭제되면 조회 시 걸러진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_timeline_entry_owner_id_todo_id", columnNames = {"owner_id", "todo_id"}),
+        indexes = {
+                @Index(name = "idx_timeline_entry_todo_id", columnList = "todo_id"),
+                @Index(name = "idx_timeline_entry_owner_id_author_id", columnList = "owner_id, author_id")
+        }
+)
+public class TimelineEntry {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    // 타임라인을 보는 회원 (팔로워)
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private Long todoId;
+
+    // 투두 작성자 (팔로우 대상)
+    @Column(nullable = false)
+    private Long authorId;
+
+    // 타임라인에 들어온 시각 (epoch millis)
+    @Column(nullable = false)
+    private Long createdAt;
+
+    @Builder
+    public TimelineEntry(Long ownerId, Long todoId, Long authorId, Long createdAt) {
+        this.ownerId = ownerId;
+        this.todoId = todoId;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.todolist.entity;
 
 import com.todolist.entity.enums.TodoStatus;
+import com.todolist.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,10 +13,14 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_todo_member_id_id", columnList = "member_id, id"),
+        @Index(name = "idx_todo_member_id_status_id", columnList = "member_id, status, id")
+})
 public class Todo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +43,11 @@ public class Todo {
     @Column(nullable = false)
     private Long hit = 0L;
 
+    // 세부 할 일 개수 (개수 제한을 COUNT 쿼리 없이 원자적으로 확인하기 위한 반정규화 컬럼)
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer detailCount = 0;
+
     public void addTodoDetail(TodoDetail todoDetail) {
         this.todoDetail.add(todoDetail);
         todoDetail.setTodo(this);
@@ -1,6 +1,7 @@
 package com.todolist.entity;
 
 import com.todolist.entity.enums.TodoDetailStatus;
+import com.todolist.entity.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,7 @@ import static lombok.AccessLevel.*;
 public class TodoDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Setter(PROTECTED)
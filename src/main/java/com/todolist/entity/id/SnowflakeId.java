@@ -0,0 +1,20 @@
+package com.todolist.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 식별자를 DB AUTO_INCREMENT 대신 애플리케이션에서 SnowflakeIdGenerator로 발급
+ * - INSERT 전에 ID가 정해지므로 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+}
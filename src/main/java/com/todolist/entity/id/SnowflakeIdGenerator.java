@@ -0,0 +1,93 @@
+package com.todolist.entity.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64비트 ID 생성기 (Snowflake 방식)
+ * - [부호 1비트 | 타임스탬프 41비트 | 노드 ID 10비트 | 시퀀스 12비트]
+ * - 노드마다 다른 ID를 설정하면 DB 왕복 없이 서로 겹치지 않는 ID를 만들 수 있다.
+ * - 마지막 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 락이 없다.
+ */
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z, 41비트로 약 69년 사용 가능
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 이보다 크게 시계가 뒤로 가면 ID가 겹칠 수 있으므로 발급을 거부
+    private static final long DEFAULT_MAX_BACKWARD_MILLIS = 1000;
+
+    private static final Map<Long, SnowflakeIdGenerator> NODES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final long maxBackwardMillis;
+
+    // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock, long maxBackwardMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.maxBackwardMillis = maxBackwardMillis;
+    }
+
+    /**
+     * 노드별로 하나의 생성기만 사용
+     * - 같은 노드에 생성기가 여러 개 있으면 같은 밀리초에 같은 시퀀스를 발급할 수 있음
+     * - 엔티티마다 생성되는 Hibernate 생성기와 JDBC로 직접 INSERT 하는 코드가 같은 인스턴스를 공유한다.
+     */
+    public static SnowflakeIdGenerator forNode(long nodeId) {
+        return NODES.computeIfAbsent(nodeId,
+                id -> new SnowflakeIdGenerator(id, System::currentTimeMillis, DEFAULT_MAX_BACKWARD_MILLIS));
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long last = state.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // 같은 밀리초이거나 시계가 조금 뒤로 간 경우 -> 마지막 타임스탬프를 그대로 쓰고 시퀀스만 증가
+                if (lastTimestamp - now > maxBackwardMillis) {
+                    throw new IllegalStateException("시스템 시계가 " + (lastTimestamp - now) + "ms 뒤로 이동해 ID를 발급할 수 없습니다.");
+                }
+                if ((last & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    // 이 밀리초의 시퀀스를 모두 사용함 -> 시계가 다음 밀리초로 넘어갈 때까지 대기
+                    Thread.onSpinWait();
+                    continue;
+                }
+                next = last + 1;
+            }
+
+            if (state.compareAndSet(last, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,42 @@
+package com.todolist.entity.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * @SnowflakeId 가 붙은 식별자에 ID를 채워주는 Hibernate 생성기
+ * - 노드 ID는 Hibernate 설정(spring.jpa.properties.id-generator.node-id)에서 읽으며, 없으면 기동에 실패한다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "id-generator.node-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        this.generator = SnowflakeIdGenerator.forNode(parseNodeId(nodeId));
+    }
+
+    // 환경 변수가 없으면 바인딩 단계에서 "${...}" 문자열이 그대로 넘어옴
+    private static long parseNodeId(Object nodeId) {
+        try {
+            return Long.parseLong(String.valueOf(nodeId).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Snowflake 노드 ID(spring.jpa.properties." + NODE_ID_SETTING
+                    + ", 환경 변수 ID_GENERATOR_NODE_ID)를 설정해야 합니다: " + nodeId, e);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -3,6 +3,7 @@ package com.todolist.exception.handler;
 import com.todolist.exception.*;
 import com.todolist.exception.dto.ExceptionResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -76,4 +77,13 @@ public class GlobalExceptionHandler {
         log.warn("status: {}, message: {}", exceptionResponse.status(), exceptionResponse.message());
         return ResponseEntity.status(CONFLICT).body(exceptionResponse);
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(SERVICE_UNAVAILABLE.toString(), e.getMessage());
+        log.warn("ServiceUnavailableException 발생");
+        log.warn("status: {}, message: {}", exceptionResponse.status(), exceptionResponse.message());
+        // 잠시 후 재시도하도록 안내 (초 단위)
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(exceptionResponse);
+    }
 }
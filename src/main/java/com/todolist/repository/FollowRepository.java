@@ -1,20 +1,62 @@
 package com.todolist.repository;
 
 import com.todolist.entity.Follow;
-import com.todolist.entity.Member;
-import org.springframework.data.domain.Page;
+import com.todolist.repository.dto.FollowEdgeRow;
+import com.todolist.repository.dto.FollowMemberRow;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface FollowRepository extends JpaRepository<Follow, Long> {
 
-    @Query("SELECT f.followee FROM Follow f WHERE f.follower = :follower")
-    Page<Member> findFolloweeByFollower(Member follower, Pageable pageable);
+    @Query("SELECT new com.todolist.repository.dto.FollowMemberRow(m.id, m.nickname, m.followerCount, m.followingCount) " +
+            "FROM Follow f JOIN f.followee m WHERE f.follower.id = :followerId ORDER BY f.followee.id")
+    Slice<FollowMemberRow> findFolloweeRowsByFollowerId(Long followerId, Pageable pageable);
+
+    /**
+     * 팔로잉 목록 키셋 페이징 (follower_id, followee_id) 유니크 인덱스에서 커서 이후 범위만 읽음
+     */
+    @Query("SELECT new com.todolist.repository.dto.FollowMemberRow(m.id, m.nickname, m.followerCount, m.followingCount) " +
+            "FROM Follow f JOIN f.followee m WHERE f.follower.id = :followerId AND f.followee.id > :cursorId ORDER BY f.followee.id")
+    List<FollowMemberRow> findFolloweeRowsByFollowerIdAfter(Long followerId, Long cursorId, Pageable pageable);
+
+    /**
+     * 팔로워 목록 키셋 페이징 ((followee_id, follower_id) 인덱스 사용)
+     */
+    @Query("SELECT new com.todolist.repository.dto.FollowMemberRow(m.id, m.nickname, m.followerCount, m.followingCount) " +
+            "FROM Follow f JOIN f.follower m WHERE f.followee.id = :followeeId AND f.follower.id > :cursorId ORDER BY f.follower.id")
+    List<FollowMemberRow> findFollowerRowsByFolloweeIdAfter(Long followeeId, Long cursorId, Pageable pageable);
+
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :followerId")
+    List<Long> findFolloweeIdsByFollowerId(Long followerId);
+
+    @Query("SELECT COUNT(f) > 0 FROM Follow f WHERE f.follower.id = :followerId AND f.followee.id = :followeeId")
+    boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+
+    /**
+     * 주어진 회원 중 실제로 팔로우 중인 회원 ID ((follower_id, followee_id) 유니크 인덱스 범위만 읽음)
+     */
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :followerId AND f.followee.id IN :followeeIds")
+    List<Long> findFolloweeIdsByFollowerIdAndFolloweeIdIn(Long followerId, Collection<Long> followeeIds);
+
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :followeeId")
+    List<Long> findFollowerIdsByFolloweeId(Long followeeId);
 
-    boolean existsByFollowerAndFollowee(Member follower, Member followee);
+    /**
+     * 전체 팔로우 관계를 PK 순서대로 키셋 페이징 (타임라인 백필용)
+     */
+    @Query("SELECT new com.todolist.repository.dto.FollowEdgeRow(f.id, f.follower.id, f.followee.id) " +
+            "FROM Follow f WHERE f.id > :lastId ORDER BY f.id")
+    List<FollowEdgeRow> findEdgesAfter(Long lastId, Pageable pageable);
 
-    void deleteByFollowerAndFollowee(Member follower, Member followee);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.followee.id = :followeeId")
+    int deleteByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
 }
@@ -1,9 +1,14 @@
 package com.todolist.repository;
 
 import com.todolist.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,43 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     Optional<Member> findByEmail(String email);
+
+    /**
+     * 팔로우(delta = 1), 언팔로우(delta = -1) 시 두 회원의 카운터를 UPDATE 한 번으로 변경
+     * - 두 행을 PK 순서로 잠그므로 서로를 동시에 팔로우해도 데드락이 생기지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET " +
+            "m.followingCount = m.followingCount + CASE WHEN m.id = :followerId THEN :delta ELSE 0 END, " +
+            "m.followerCount = m.followerCount + CASE WHEN m.id = :followeeId THEN :delta ELSE 0 END " +
+            "WHERE m.id IN (:followerId, :followeeId)")
+    int adjustFollowCounts(Long followerId, Long followeeId, int delta);
+
+    /**
+     * 비밀번호 해시 교체 (로그인 사이에 비밀번호가 바뀌었으면 덮어쓰지 않음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :oldPassword")
+    int updatePassword(Long id, String oldPassword, String newPassword);
+
+    @Query("SELECT m.id FROM Member m WHERE m.id > :lastId ORDER BY m.id")
+    List<Long> findIdsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 카운터가 실제 팔로우 수와 다른 회원만 다시 계산
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET " +
+            "m.followerCount = (SELECT COUNT(f) FROM Follow f WHERE f.followee.id = m.id), " +
+            "m.followingCount = (SELECT COUNT(f) FROM Follow f WHERE f.follower.id = m.id) " +
+            "WHERE m.id IN :ids " +
+            "AND (m.followerCount <> (SELECT COUNT(f) FROM Follow f WHERE f.followee.id = m.id) " +
+            "OR m.followingCount <> (SELECT COUNT(f) FROM Follow f WHERE f.follower.id = m.id))")
+    int reconcileFollowCounts(Collection<Long> ids);
+
+    /**
+     * 팔로워가 threshold명보다 많은 회원 ID (follower_count 인덱스 범위 조회)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.followerCount > :threshold")
+    List<Long> findIdsByFollowerCountGreaterThan(long threshold);
 }
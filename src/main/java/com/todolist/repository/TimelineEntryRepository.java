@@ -0,0 +1,41 @@
+package com.todolist.repository;
+
+import com.todolist.entity.TimelineEntry;
+import com.todolist.repository.dto.TimelineRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    /**
+     * 회원의 타임라인을 커서 이전부터 최신순으로 조회 ((owner_id, todo_id) 유니크 인덱스 사용)
+     */
+    @Query("SELECT new com.todolist.repository.dto.TimelineRow(e.todoId, e.authorId) FROM TimelineEntry e " +
+            "WHERE e.ownerId = :ownerId AND e.todoId < :cursorId ORDER BY e.todoId DESC")
+    List<TimelineRow> findRowsByOwnerIdBefore(Long ownerId, Long cursorId, Pageable pageable);
+
+    @Query("SELECT e.todoId FROM TimelineEntry e WHERE e.ownerId = :ownerId ORDER BY e.todoId DESC")
+    List<Long> findTodoIdsByOwnerId(Long ownerId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TimelineEntry e WHERE e.todoId IN :todoIds")
+    int deleteByTodoIdIn(Collection<Long> todoIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TimelineEntry e WHERE e.ownerId = :ownerId AND e.authorId = :authorId")
+    int deleteByOwnerIdAndAuthorId(Long ownerId, Long authorId);
+
+    /**
+     * 타임라인 크기 제한을 넘은 오래된 항목 삭제
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TimelineEntry e WHERE e.ownerId = :ownerId AND e.todoId <= :todoId")
+    int deleteByOwnerIdAndTodoIdAtMost(Long ownerId, Long todoId);
+}
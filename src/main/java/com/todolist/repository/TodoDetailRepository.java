@@ -1,11 +1,51 @@
 package com.todolist.repository;
 
 import com.todolist.entity.TodoDetail;
+import com.todolist.entity.enums.TodoDetailStatus;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.repository.dto.TodoDetailOwnerRow;
+import com.todolist.repository.dto.TodoDetailView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TodoDetailRepository extends JpaRepository<TodoDetail, Long> {
 
-    Long countByTodoId(Long parentId);
+    /**
+     * 부모 투두가 본인 것일 때만 세부 할 일 상태 변경 (조회 없이 UPDATE 한 번)
+     * @return 변경된 행 수, 0이면 없는 세부 할 일이거나 다른 회원의 세부 할 일
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TodoDetail d SET d.status = :status WHERE d.id = :id " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = d.todo.id AND t.member.id = :memberId)")
+    int updateStatusByIdAndMemberId(Long id, Long memberId, TodoDetailStatus status);
+
+    /**
+     * 부모 투두가 본인 것인 세부 할 일만 한 번에 같은 상태로 변경
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TodoDetail d SET d.status = :status WHERE d.id IN :ids " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = d.todo.id AND t.member.id = :memberId)")
+    int updateStatusByIdInAndMemberId(Collection<Long> ids, Long memberId, TodoDetailStatus status);
+
+    @Query("SELECT new com.todolist.repository.dto.TodoDetailOwnerRow(d.id, t.member.id) FROM TodoDetail d JOIN d.todo t WHERE d.id IN :ids")
+    List<TodoDetailOwnerRow> findOwnerRowsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.todolist.repository.dto.TodoDetailView(d.todo.id, d.id, d.detailList, d.status) FROM TodoDetail d WHERE d.id = :id")
+    Optional<TodoDetailView> findViewById(Long id);
+
+    /**
+     * 회원의 해당 상태 투두에 속한 세부 할 일을 한 번에 삭제
+     * - 조건을 DELETE 문에 다시 걸어 두었으므로, 검증 이후 상태가 바뀐 투두의 세부 할 일은 지워지지 않음
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoDetail d WHERE d.todo.id IN " +
+            "(SELECT t.id FROM Todo t WHERE t.id IN :todoIds AND t.member.id = :memberId AND t.status = :status)")
+    int deleteByTodoIdInAndMemberIdAndStatus(Collection<Long> todoIds, Long memberId, TodoStatus status);
 }
@@ -1,15 +1,162 @@
 package com.todolist.repository;
 
 import com.todolist.entity.Todo;
-import org.springframework.data.domain.Page;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.repository.dto.LatestTodoRow;
+import com.todolist.repository.dto.TodoDetailView;
+import com.todolist.repository.dto.TodoOwnerRow;
+import com.todolist.repository.dto.TodoRow;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.repository.dto.TodoViewCursorSlice;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
+
+    @Query("SELECT t.id FROM Todo t WHERE t.member.id = :memberId ORDER BY t.id")
+    Slice<Long> findIdsByMemberId(Long memberId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.member.id = :memberId AND t.id < :cursorId ORDER BY t.id DESC")
+    List<Long> findIdsByMemberIdBefore(Long memberId, Long cursorId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.member.id = :memberId AND t.status = :status AND t.id < :cursorId ORDER BY t.id DESC")
+    List<Long> findIdsByMemberIdAndStatusBefore(Long memberId, TodoStatus status, Long cursorId, Pageable pageable);
+
+    /**
+     * 회원별로 커서 이전의 가장 최근 투두 ID 조회
+     * - (member_id, id) 인덱스에서 회원마다 한 번씩만 읽으면 되므로 투두 수와 무관하게 회원 수만큼의 비용
+     */
+    @Query("SELECT new com.todolist.repository.dto.LatestTodoRow(t.member.id, MAX(t.id)) FROM Todo t " +
+            "WHERE t.member.id IN :memberIds AND t.id < :cursorId GROUP BY t.member.id")
+    List<LatestTodoRow> findLatestRowsByMemberIdIn(Collection<Long> memberIds, Long cursorId);
+
+    @Query("SELECT new com.todolist.repository.dto.TodoRow(t.id, t.hit, t.todoList, t.status, d.id, d.detailList, d.status) " +
+            "FROM Todo t LEFT JOIN t.todoDetail d WHERE t.id IN :ids ORDER BY t.id, d.id")
+    List<TodoRow> findRowsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.todolist.repository.dto.TodoOwnerRow(t.id, t.member.id, t.status) FROM Todo t WHERE t.id IN :ids")
+    List<TodoOwnerRow> findOwnerRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * 본인 투두일 때만 상태 변경 (조회 없이 UPDATE 한 번)
+     * @return 변경된 행 수, 0이면 없는 투두이거나 다른 회원의 투두
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.status = :status WHERE t.id = :id AND t.member.id = :memberId")
+    int updateStatusByIdAndMemberId(Long id, Long memberId, TodoStatus status);
+
+    /**
+     * 본인 투두만 한 번에 같은 상태로 변경
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.status = :status WHERE t.id IN :ids AND t.member.id = :memberId")
+    int updateStatusByIdInAndMemberId(Collection<Long> ids, Long memberId, TodoStatus status);
+
+    @Query("SELECT t.todoList FROM Todo t WHERE t.id = :id")
+    String findTodoListById(Long id);
+
+    /**
+     * 본인 투두이고 세부 할 일이 limit개 미만일 때만 개수를 1 증가
+     * - 확인과 증가가 UPDATE 한 문장이므로, 동시에 등록해도 행 락 순서대로 처리되어 limit을 넘지 않음
+     * @return 증가된 행 수, 0이면 없는 투두이거나 다른 회원의 투두이거나 이미 limit개
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.detailCount = t.detailCount + 1 WHERE t.id = :id AND t.member.id = :memberId AND t.detailCount < :limit")
+    int increaseDetailCount(Long id, Long memberId, int limit);
+
+    /**
+     * 세부 할 일 개수를 count만큼 감소 (카운터가 실제보다 작게 어긋나 있어도 0 아래로 내려가지 않음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.detailCount = CASE WHEN t.detailCount >= :count THEN t.detailCount - :count ELSE 0 END " +
+            "WHERE t.id = :id")
+    int decreaseDetailCount(Long id, int count);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 세부 할 일 개수가 실제 세부 할 일 수와 다른 투두만 다시 계산
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.detailCount = (SELECT COUNT(d) FROM TodoDetail d WHERE d.todo.id = t.id) " +
+            "WHERE t.id IN :ids AND t.detailCount <> (SELECT COUNT(d) FROM TodoDetail d WHERE d.todo.id = t.id)")
+    int reconcileDetailCounts(Collection<Long> ids);
+
+    /**
+     * 회원의 해당 상태 투두를 한 번에 삭제 (세부 할 일은 먼저 지워야 함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :ids AND t.member.id = :memberId AND t.status = :status")
+    int deleteByIdInAndMemberIdAndStatus(Collection<Long> ids, Long memberId, TodoStatus status);
+
+    /**
+     * 회원의 투두를 세부 할 일과 함께 페이지 단위로 조회
+     * 1. 해당 페이지의 투두 ID만 LIMIT/OFFSET으로 조회 (size + 1개를 읽어 마지막 페이지 여부 판단, COUNT 쿼리 없음)
+     * 2. 그 ID들의 투두와 세부 할 일을 필요한 컬럼만 한 번에 조회
+     * - 컬렉션 fetch join에 페이징을 걸면 Hibernate가 전체를 읽어 메모리에서 페이징하므로(HHH90003004) 두 단계로 나눔
+     */
+    default Slice<TodoView> findViewSliceByMemberId(Long memberId, Pageable pageable) {
+        Slice<Long> idSlice = findIdsByMemberId(memberId, pageable);
+        return new SliceImpl<>(findViewsInOrder(idSlice.getContent()), idSlice.getPageable(), idSlice.hasNext());
+    }
+
+    /**
+     * 회원의 투두를 커서 기반으로 조회 (최신순)
+     * - (member_id, id), (member_id, status, id) 인덱스를 타고 커서 이후부터 읽으므로 몇 번째 페이지든 비용이 같음
+     * - 다음 페이지 존재 여부는 size + 1개를 읽어서 판단하고, 다음 커서는 ID 조회에서 마지막으로 읽은 ID
+     *   (ID 조회와 본문 조회 사이에 투두가 삭제되어 목록이 비어도 커서를 만들 수 있음)
+     * @param status null이면 전체 상태
+     * @param cursorId null이면 첫 페이지
+     */
+    default TodoViewCursorSlice findViewSliceByMemberId(Long memberId, TodoStatus status, Long cursorId, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        Long before = cursorId != null ? cursorId : Long.MAX_VALUE;
+
+        List<Long> ids = status == null
+                ? findIdsByMemberIdBefore(memberId, before, limit)
+                : findIdsByMemberIdAndStatusBefore(memberId, status, before, limit);
+
+        boolean hasNext = ids.size() > size;
+        List<Long> sliceIds = hasNext ? ids.subList(0, size) : ids;
+
+        return new TodoViewCursorSlice(findViewsInOrder(sliceIds), size, hasNext ? sliceIds.getLast() : null);
+    }
+
+    /**
+     * ID 목록의 투두를 세부 할 일과 함께 읽기 모델로 조회하고, 주어진 ID 순서대로 정렬 (그 사이 삭제된 투두는 제외)
+     * - 엔티티를 만들지 않으므로 스냅샷, 더티 체킹, 프록시 비용이 없음
+     * - 투두 x 세부 할 일 평면 결과를 한 번 순회하면서 투두별로 묶음
+     */
+    default List<TodoView> findViewsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TodoView> viewById = new HashMap<>(ids.size() * 2);
+        for (TodoRow row : findRowsByIdIn(ids)) {
+            TodoView view = viewById.computeIfAbsent(row.todoId(), id -> TodoView.from(row));
+            if (row.hasDetail()) {
+                view.details().add(TodoDetailView.from(row));
+            }
+        }
 
-    @EntityGraph(attributePaths = {"todoDetail"})
-    Page<Todo> findByMemberId(Long memberId, Pageable pageable);
+        return ids.stream()
+                .map(viewById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
@@ -0,0 +1,16 @@
+package com.todolist.repository;
+
+import com.todolist.repository.dto.TimelineRow;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TodoRepositoryCustom {
+
+    /**
+     * 여러 회원의 투두를 커서 이전부터 최신순으로 limit개 조회 (피드)
+     * - 회원마다 (member_id, id) 인덱스에서 최대 limit개만 읽고 합치므로, 회원들의 전체 투두 수와 무관하게
+     *   (회원 수 x limit)개 안에서만 정렬한다.
+     */
+    List<TimelineRow> findTimelineRowsByMemberIdInBefore(Collection<Long> memberIds, long cursorId, int limit);
+}
@@ -0,0 +1,62 @@
+package com.todolist.repository;
+
+import com.todolist.repository.dto.TimelineRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TodoRepository 중 JPQL로 표현할 수 없는 조회
+ * - 회원별 LIMIT을 건 SELECT를 UNION ALL로 묶는 쿼리는 회원 수에 따라 문장이 달라지므로 JDBC로 실행한다.
+ */
+@RequiredArgsConstructor
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    private static final String BRANCH_SQL = "(SELECT id, member_id FROM todo WHERE member_id = ? AND id < ? ORDER BY id DESC LIMIT ?)";
+
+    // 한 문장에 넣을 회원 수 (넘으면 여러 번 조회한 뒤 합침)
+    private static final int MEMBERS_PER_QUERY = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TimelineRow> findTimelineRowsByMemberIdInBefore(Collection<Long> memberIds, long cursorId, int limit) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = List.copyOf(memberIds);
+        List<TimelineRow> rows = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MEMBERS_PER_QUERY) {
+            rows.addAll(query(ids.subList(from, Math.min(from + MEMBERS_PER_QUERY, ids.size())), cursorId, limit));
+        }
+
+        if (ids.size() <= MEMBERS_PER_QUERY) {
+            return rows;
+        }
+        rows.sort(Comparator.comparingLong(TimelineRow::todoId).reversed());
+        return rows.size() > limit ? List.copyOf(rows.subList(0, limit)) : rows;
+    }
+
+    private List<TimelineRow> query(List<Long> memberIds, long cursorId, int limit) {
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>(memberIds.size() * 3 + 1);
+        for (Long memberId : memberIds) {
+            if (!sql.isEmpty()) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append(BRANCH_SQL);
+            args.add(memberId);
+            args.add(cursorId);
+            args.add(limit);
+        }
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TimelineRow(rs.getLong(1), rs.getLong(2)), args.toArray());
+    }
+}
@@ -0,0 +1,11 @@
+package com.todolist.repository.dto;
+
+/**
+ * 팔로우 관계 한 건 (id는 키셋 페이징 커서)
+ */
+public record FollowEdgeRow(
+        Long id,
+        Long followerId,
+        Long followeeId
+) {
+}
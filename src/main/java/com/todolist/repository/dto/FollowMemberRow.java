@@ -0,0 +1,8 @@
+package com.todolist.repository.dto;
+
+/**
+ * 팔로잉, 팔로워 목록 조회용 회원 프로젝션
+ * - 목록에 필요한 컬럼만 읽어 비밀번호 등이 담긴 Member 엔티티를 만들지 않는다.
+ */
+public record FollowMemberRow(Long id, String nickname, Long followerCount, Long followingCount) {
+}
@@ -0,0 +1,10 @@
+package com.todolist.repository.dto;
+
+/**
+ * 회원별 가장 최근 투두 ID (피드에서 팔로우 대상별 스트림의 맨 앞 항목)
+ */
+public record LatestTodoRow(
+        Long memberId,
+        Long todoId
+) {
+}
@@ -0,0 +1,10 @@
+package com.todolist.repository.dto;
+
+/**
+ * 타임라인 항목의 투두 ID, 작성자 ID만 담은 조회 결과
+ */
+public record TimelineRow(
+        Long todoId,
+        Long authorId
+) {
+}
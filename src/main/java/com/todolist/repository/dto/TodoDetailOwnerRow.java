@@ -0,0 +1,10 @@
+package com.todolist.repository.dto;
+
+/**
+ * 세부 할 일의 소유자(부모 투두의 회원)만 담은 조회 결과 (권한 검증용)
+ */
+public record TodoDetailOwnerRow(
+        Long id,
+        Long memberId
+) {
+}
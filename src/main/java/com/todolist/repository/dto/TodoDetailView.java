@@ -0,0 +1,17 @@
+package com.todolist.repository.dto;
+
+import com.todolist.entity.enums.TodoDetailStatus;
+
+/**
+ * 목록 응답에 필요한 컬럼만 담은 세부 할 일 읽기 모델
+ */
+public record TodoDetailView(
+        Long parentId,
+        Long id,
+        String detailList,
+        TodoDetailStatus status
+) {
+    public static TodoDetailView from(TodoRow row) {
+        return new TodoDetailView(row.todoId(), row.detailId(), row.detailList(), row.detailStatus());
+    }
+}
@@ -0,0 +1,13 @@
+package com.todolist.repository.dto;
+
+import com.todolist.entity.enums.TodoStatus;
+
+/**
+ * 투두의 소유자, 상태만 담은 조회 결과 (권한, 상태 검증용)
+ */
+public record TodoOwnerRow(
+        Long id,
+        Long memberId,
+        TodoStatus status
+) {
+}
@@ -0,0 +1,22 @@
+package com.todolist.repository.dto;
+
+import com.todolist.entity.enums.TodoDetailStatus;
+import com.todolist.entity.enums.TodoStatus;
+
+/**
+ * 투두 LEFT JOIN 세부 할 일 조회 결과 한 줄
+ * - 세부 할 일이 없는 투두는 detail* 필드가 모두 null
+ */
+public record TodoRow(
+        Long todoId,
+        Long hit,
+        String todoList,
+        TodoStatus status,
+        Long detailId,
+        String detailList,
+        TodoDetailStatus detailStatus
+) {
+    public boolean hasDetail() {
+        return detailId != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.todolist.repository.dto;
+
+import com.todolist.entity.enums.TodoStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 응답에 필요한 컬럼만 담은 투두 읽기 모델 (영속성 컨텍스트에 올라가지 않음)
+ */
+public record TodoView(
+        Long id,
+        Long hit,
+        String todoList,
+        TodoStatus status,
+        List<TodoDetailView> details
+) {
+    public static TodoView from(TodoRow row) {
+        return new TodoView(row.todoId(), row.hit(), row.todoList(), row.status(), new ArrayList<>());
+    }
+}
@@ -0,0 +1,16 @@
+package com.todolist.repository.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 투두 조회 결과
+ * @param content 투두 목록 (ID를 조회한 뒤 삭제된 투두는 빠져 있을 수 있음)
+ * @param size 요청한 페이지 사이즈
+ * @param nextCursorId ID 조회에서 마지막으로 읽은 투두 ID (마지막 페이지면 null)
+ */
+public record TodoViewCursorSlice(List<TodoView> content, int size, Long nextCursorId) {
+
+    public boolean hasNext() {
+        return nextCursorId != null;
+    }
+}
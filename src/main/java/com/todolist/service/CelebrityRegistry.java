@@ -0,0 +1,55 @@
+package com.todolist.service;
+
+import com.todolist.repository.MemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 팔로워가 많아 타임라인에 쓰기 시점 복사(fan-out)를 하지 않는 회원 목록
+ * - 이 회원들의 투두는 타임라인에 넣지 않고, 피드를 읽을 때 직접 조회해서 합친다.
+ * - 일정 주기로 팔로워 수 카운터(Member.followerCount)에서 목록을 다시 읽어 교체하므로 조회는 락 없이 이루어진다.
+ */
+@Slf4j
+@Component
+public class CelebrityRegistry implements MeterBinder {
+
+    private final MemberRepository memberRepository;
+    private final long followerThreshold;
+
+    private volatile Set<Long> celebrities = Set.of();
+
+    public CelebrityRegistry(MemberRepository memberRepository,
+                             @Value("${timeline.celebrity-threshold:10000}") long followerThreshold) {
+        this.memberRepository = memberRepository;
+        this.followerThreshold = followerThreshold;
+    }
+
+    public boolean isCelebrity(Long memberId) {
+        return celebrities.contains(memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${timeline.celebrity-refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            celebrities = Set.copyOf(memberRepository.findIdsByFollowerCountGreaterThan(followerThreshold));
+        } catch (DataAccessException e) {
+            // 갱신에 실패하면 이전 목록을 그대로 사용
+            log.warn("팔로워가 많은 회원 목록 갱신 실패: message = {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("timeline.celebrities", this, celebrityRegistry -> celebrityRegistry.celebrities.size())
+                .description("타임라인 fan-out 대상에서 제외된 회원 수")
+                .register(registry);
+    }
+}
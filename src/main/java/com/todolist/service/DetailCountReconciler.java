@@ -0,0 +1,87 @@
+package com.todolist.service;
+
+import com.todolist.repository.TodoRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 투두의 세부 할 일 개수(detail_count) 보정
+ * - detail_count 컬럼이 추가되기 전에 만들어진 투두는 0으로 시작하므로, 처음 한 바퀴가 기존 데이터의 백필을 겸한다.
+ * - 이후에도 직접 수정한 데이터 등으로 어긋날 수 있으므로 일정 주기로 투두 ID 순서대로 chunkSize개씩 실제 개수와 비교해 다른 투두만 다시 계산한다.
+ *   (청크마다 별도 트랜잭션 -> 한 번에 많은 행을 잠그지 않음)
+ * - FollowCountReconciler와 같이 한 번 실행할 때 maxChunks개 청크까지만 확인하고 다음 실행은 이어서 확인한다.
+ */
+@Slf4j
+@Component
+public class DetailCountReconciler implements MeterBinder {
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    private final LongAdder corrected = new LongAdder();
+
+    // 다음 실행에서 이어서 확인할 위치 (reconcile 안에서만 접근)
+    private Long lastId = Long.MIN_VALUE;
+
+    public DetailCountReconciler(TodoRepository todoRepository,
+                                 TransactionOperations transactionOperations,
+                                 @Value("${todo.detail-count-reconcile.chunk-size:1000}") int chunkSize,
+                                 @Value("${todo.detail-count-reconcile.max-chunks-per-run:10}") int maxChunks) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * @return 세부 할 일 개수를 보정한 투두 수
+     */
+    @Scheduled(initialDelayString = "${todo.detail-count-reconcile.initial-delay-ms:300000}",
+            fixedDelayString = "${todo.detail-count-reconcile.interval-ms:60000}")
+    public synchronized int reconcile() {
+        int total = 0;
+
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                List<Long> ids = todoRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    lastId = Long.MIN_VALUE;
+                    break;
+                }
+
+                Integer updated = transactionOperations.execute(status -> todoRepository.reconcileDetailCounts(ids));
+                total += updated != null ? updated : 0;
+                lastId = ids.getLast();
+            }
+        } catch (DataAccessException e) {
+            // 다음 주기에 실패한 청크부터 다시 확인
+            log.warn("세부 할 일 개수 보정 실패: lastId = {}, message = {}", lastId, e.getMessage());
+        }
+
+        corrected.add(total);
+        if (total > 0) {
+            log.info("세부 할 일 개수 보정: todos = {}", total);
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.detail-count.corrected", corrected, LongAdder::sum)
+                .description("세부 할 일 개수를 보정한 투두 수")
+                .register(registry);
+    }
+}
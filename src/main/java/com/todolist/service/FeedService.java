@@ -0,0 +1,255 @@
+package com.todolist.service;
+
+import com.todolist.exception.BadRequestException;
+import com.todolist.repository.FollowRepository;
+import com.todolist.repository.TimelineEntryRepository;
+import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.LatestTodoRow;
+import com.todolist.repository.dto.TimelineRow;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.service.cursor.CursorCodec;
+import com.todolist.service.dto.response.FeedItemResponse;
+import com.todolist.service.dto.response.FeedResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 팔로우한 사람들의 투두를 최신순으로 합친 피드
+ * - 투두 ID는 시간 순으로 발급되므로(Snowflake) ID 내림차순이 곧 최신순이고, 커서도 마지막 투두 ID를 사용한다.
+ * - 팔로우 대상이 적으면 팔로우 대상별로 LIMIT을 건 조회를 한 번에 묶어서 조회하고, 많으면 팔로우 대상별 스트림의 맨 앞 항목만 먼저 읽어
+ *   이번 페이지에 들어올 수 있는 스트림만 남긴 뒤 조회한다.
+ * - 타임라인(TimelineFanoutWorker)을 사용하면 미리 복사해 둔 항목을 읽고,
+ *   복사 대상에서 빠진 팔로워가 많은 회원의 투두만 직접 조회해서 합친다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class FeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 언팔로우, 삭제로 빠진 항목을 채우기 위해 한 요청에서 더 읽는 최대 횟수 (넘으면 덜 찬 페이지와 커서를 반환)
+    private static final int MAX_SCAN_ROUNDS = 5;
+
+    // 이 수 이하면 팔로우 대상별 (member_id, id) 인덱스 범위를 limit개씩만 읽어 합치는 조회가 가장 저렴
+    private static final int IN_QUERY_MAX_FOLLOWEES = 100;
+
+    // 스트림 맨 앞 항목 조회 시 IN 조건 하나에 넣을 팔로우 대상 수
+    private static final int HEAD_QUERY_CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final FollowRepository followRepository;
+    private final FollowGraphIndex followGraphIndex;
+    private final TodoHitCounter todoHitCounter;
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final CelebrityRegistry celebrityRegistry;
+    private final boolean timelineEnabled;
+
+    public FeedService(TodoRepository todoRepository,
+                       FollowRepository followRepository,
+                       FollowGraphIndex followGraphIndex,
+                       TodoHitCounter todoHitCounter,
+                       TimelineEntryRepository timelineEntryRepository,
+                       CelebrityRegistry celebrityRegistry,
+                       @Value("${timeline.enabled:false}") boolean timelineEnabled) {
+        this.todoRepository = todoRepository;
+        this.followRepository = followRepository;
+        this.followGraphIndex = followGraphIndex;
+        this.todoHitCounter = todoHitCounter;
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.celebrityRegistry = celebrityRegistry;
+        this.timelineEnabled = timelineEnabled;
+    }
+
+    public FeedResponse readFeed(Long memberId, String cursor, int size) {
+
+        verifyPageSize(size);
+
+        Long cursorId = CursorCodec.decode(cursor);
+        long before = cursorId != null ? cursorId : Long.MAX_VALUE;
+
+        long[] followeeIds = followGraphIndex.followeeIds(memberId);
+        if (followeeIds.length == 0) {
+            return FeedResponse.of(List.of(), size, null);
+        }
+
+        // 다음 페이지 존재 여부와 커서는 걸러내기 전의 읽은 행으로 판단하고,
+        // 언팔로우, 삭제로 빠진 만큼은 커서를 옮겨 가며 더 읽어서 페이지를 채움
+        List<FeedItemResponse> items = new ArrayList<>(size);
+        boolean hasNext = true;
+        for (int round = 0; round < MAX_SCAN_ROUNDS && hasNext && items.size() < size; round++) {
+            int remaining = size - items.size();
+            Scan scan = timelineEnabled
+                    ? readTimeline(memberId, followeeIds, before, remaining)
+                    : readFollowees(followeeIds, before, remaining);
+
+            hasNext = scan.hasNext();
+            if (scan.rows().isEmpty()) {
+                break;
+            }
+            before = scan.rows().getLast().todoId();
+            items.addAll(render(memberId, scan.rows()));
+        }
+
+        // 팔로우한 사람의 투두 조회와 같이 피드에 보여진 투두도 조회수 증가
+        items.forEach(item -> todoHitCounter.increase(item.todo().id()));
+
+        return FeedResponse.of(items, size, hasNext ? before : null);
+    }
+
+    /**
+     * 읽은 행 중 보여줄 수 있는 것만 피드 항목으로 변환
+     * - 언팔로우가 아직 타임라인에 반영되지 않았을 수 있으므로 팔로우 여부를 다시 확인
+     *   (인덱스에 없는 작성자는 바로 빼고, 남은 작성자는 다른 인스턴스의 언팔로우를 놓치지 않도록 DB에서 한 번에 확인)
+     * - 그 사이 삭제된 투두는 findViewsInOrder에서 빠짐
+     */
+    private List<FeedItemResponse> render(Long memberId, List<TimelineRow> rows) {
+
+        Set<Long> authorIds = new HashSet<>();
+        rows.stream()
+                .map(TimelineRow::authorId)
+                .filter(authorId -> followGraphIndex.isFollowing(memberId, authorId))
+                .forEach(authorIds::add);
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> following = new HashSet<>(followRepository.findFolloweeIdsByFollowerIdAndFolloweeIdIn(memberId, authorIds));
+        if (following.size() < authorIds.size()) {
+            followGraphIndex.invalidate(memberId); // 다른 인스턴스에서 언팔로우 -> 다음 요청부터 다시 읽음
+        }
+
+        Map<Long, Long> authorByTodoId = new HashMap<>(rows.size() * 2);
+        rows.stream()
+                .filter(row -> following.contains(row.authorId()))
+                .forEach(row -> authorByTodoId.put(row.todoId(), row.authorId()));
+        if (authorByTodoId.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> todoIds = rows.stream()
+                .map(TimelineRow::todoId)
+                .filter(authorByTodoId::containsKey)
+                .toList();
+        return todoRepository.findViewsInOrder(todoIds).stream()
+                .map(view -> FeedItemResponse.of(authorByTodoId.get(view.id()), view))
+                .toList();
+    }
+
+    /**
+     * 타임라인에서 읽은 항목과 팔로워가 많은 팔로우 대상의 투두를 최신순으로 합쳐 최대 size개 반환
+     * - 각각 size + 1개를 읽으므로, 합친 결과가 size개를 넘거나 어느 한쪽이라도 끝까지 읽지 못했으면 다음 페이지가 있음
+     */
+    private Scan readTimeline(Long memberId, long[] followeeIds, long before, int size) {
+
+        int limit = size + 1;
+        List<TimelineRow> timeline = timelineEntryRepository.findRowsByOwnerIdBefore(memberId, before, PageRequest.of(0, limit));
+
+        List<Long> celebrityIds = Arrays.stream(followeeIds)
+                .filter(celebrityRegistry::isCelebrity)
+                .boxed()
+                .toList();
+        if (celebrityIds.isEmpty()) {
+            return Scan.of(timeline, size);
+        }
+
+        List<TimelineRow> celebrityRows = todoRepository.findTimelineRowsByMemberIdInBefore(celebrityIds, before, limit);
+
+        // 두 목록 모두 투두 ID 내림차순 -> 앞에서부터 큰 것을 골라 limit개까지 병합
+        // (팔로워가 많은 회원으로 바뀌기 전에 복사된 항목은 양쪽에 모두 있을 수 있어 중복 제거)
+        List<TimelineRow> merged = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>(limit * 2);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < timeline.size() || j < celebrityRows.size())) {
+            boolean fromTimeline = j >= celebrityRows.size()
+                    || (i < timeline.size() && timeline.get(i).todoId() > celebrityRows.get(j).todoId());
+            TimelineRow next = fromTimeline ? timeline.get(i++) : celebrityRows.get(j++);
+            if (seen.add(next.todoId())) {
+                merged.add(next);
+            }
+        }
+
+        // 중복 제거로 limit개를 못 채웠어도 한쪽이 limit개였다면 그 뒤에 더 있을 수 있음
+        boolean sourceHasMore = timeline.size() == limit || celebrityRows.size() == limit;
+        return new Scan(merged.size() > size ? merged.subList(0, size) : merged, merged.size() > size || sourceHasMore);
+    }
+
+    /**
+     * 팔로우 대상의 투두를 직접 조회 (타임라인을 사용하지 않는 경우)
+     */
+    private Scan readFollowees(long[] followeeIds, long before, int size) {
+
+        int limit = size + 1;
+        List<Long> authorIds = followeeIds.length <= IN_QUERY_MAX_FOLLOWEES
+                ? Arrays.stream(followeeIds).boxed().toList()
+                : selectStreams(followeeIds, before, limit);
+
+        if (authorIds.isEmpty()) {
+            return Scan.of(List.of(), size);
+        }
+
+        return Scan.of(todoRepository.findTimelineRowsByMemberIdInBefore(authorIds, before, limit), size);
+    }
+
+    /**
+     * 이번 페이지에 투두가 들어올 수 있는 팔로우 대상만 선택
+     * - 팔로우 대상별로 커서 이전의 가장 최근 투두 ID(스트림의 맨 앞 항목)를 읽고, 그중 큰 것 limit개를 힙으로 고른다.
+     * - 맨 앞 항목이 상위 limit개에 들지 못한 스트림은, 그보다 최근인 투두가 이미 limit개 있으므로 이번 페이지에 들어올 수 없다.
+     */
+    private List<Long> selectStreams(long[] followeeIds, long before, int limit) {
+
+        // 맨 앞 항목 ID 기준 최소 힙 -> 가장 작은 항목을 밀어내며 상위 limit개만 유지
+        PriorityQueue<LatestTodoRow> heads = new PriorityQueue<>(limit + 1, Comparator.comparingLong(LatestTodoRow::todoId));
+
+        for (int from = 0; from < followeeIds.length; from += HEAD_QUERY_CHUNK_SIZE) {
+            int to = Math.min(from + HEAD_QUERY_CHUNK_SIZE, followeeIds.length);
+            List<Long> chunk = Arrays.stream(followeeIds, from, to).boxed().toList();
+
+            for (LatestTodoRow head : todoRepository.findLatestRowsByMemberIdIn(chunk, before)) {
+                heads.offer(head);
+                if (heads.size() > limit) {
+                    heads.poll();
+                }
+            }
+        }
+
+        List<Long> authorIds = new ArrayList<>(heads.size());
+        heads.forEach(head -> authorIds.add(head.memberId()));
+        return authorIds;
+    }
+
+    // 페이지 사이즈가 허용 범위인지 확인하는 메소드
+    private void verifyPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지 사이즈는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: size = " + size);
+        }
+    }
+
+    /**
+     * 한 번 읽은 결과
+     * @param rows 걸러내기 전의 최신순 행 (최대 size개)
+     * @param hasNext 마지막 행 이후에 더 읽을 행이 있는지
+     */
+    private record Scan(List<TimelineRow> rows, boolean hasNext) {
+
+        // size + 1개를 읽은 결과로 다음 페이지 존재 여부 판단
+        static Scan of(List<TimelineRow> rows, int size) {
+            boolean hasNext = rows.size() > size;
+            return new Scan(hasNext ? rows.subList(0, size) : rows, hasNext);
+        }
+    }
+}
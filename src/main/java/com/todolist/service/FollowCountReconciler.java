@@ -0,0 +1,88 @@
+package com.todolist.service;
+
+import com.todolist.repository.MemberRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팔로워, 팔로잉 카운터 보정
+ * - 카운터는 팔로우, 언팔로우와 같은 트랜잭션에서 변경되지만, 직접 수정한 데이터나 동시 실행 중 계산 시점 차이로 어긋날 수 있다.
+ * - 일정 주기로 회원 ID 순서대로 chunkSize명씩 실제 팔로우 수와 비교해 다른 회원만 다시 계산한다.
+ *   (청크마다 별도 트랜잭션 -> 한 번에 많은 행을 잠그지 않음)
+ * - 한 번 실행할 때 maxChunks개 청크까지만 확인하고 다음 실행은 이어서 확인하므로, 배포 때마다 전체 테이블을 읽지 않는다.
+ *   (끝까지 확인하면 처음부터 다시 시작, 기동 직후에는 initial-delay만큼 기다린 뒤 시작)
+ */
+@Slf4j
+@Component
+public class FollowCountReconciler implements MeterBinder {
+
+    private final MemberRepository memberRepository;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    private final LongAdder corrected = new LongAdder();
+
+    // 다음 실행에서 이어서 확인할 위치 (reconcile 안에서만 접근)
+    private Long lastId = Long.MIN_VALUE;
+
+    public FollowCountReconciler(MemberRepository memberRepository,
+                                 TransactionOperations transactionOperations,
+                                 @Value("${follow.count-reconcile.chunk-size:1000}") int chunkSize,
+                                 @Value("${follow.count-reconcile.max-chunks-per-run:10}") int maxChunks) {
+        this.memberRepository = memberRepository;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * @return 카운터를 보정한 회원 수
+     */
+    @Scheduled(initialDelayString = "${follow.count-reconcile.initial-delay-ms:300000}",
+            fixedDelayString = "${follow.count-reconcile.interval-ms:60000}")
+    public synchronized int reconcile() {
+        int total = 0;
+
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                List<Long> ids = memberRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    lastId = Long.MIN_VALUE;
+                    break;
+                }
+
+                Integer updated = transactionOperations.execute(status -> memberRepository.reconcileFollowCounts(ids));
+                total += updated != null ? updated : 0;
+                lastId = ids.getLast();
+            }
+        } catch (DataAccessException e) {
+            // 다음 주기에 실패한 청크부터 다시 확인
+            log.warn("팔로우 카운터 보정 실패: lastId = {}, message = {}", lastId, e.getMessage());
+        }
+
+        corrected.add(total);
+        if (total > 0) {
+            log.info("팔로우 카운터 보정: members = {}", total);
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("follow.count.corrected", corrected, LongAdder::sum)
+                .description("팔로워, 팔로잉 카운터를 보정한 회원 수")
+                .register(registry);
+    }
+}
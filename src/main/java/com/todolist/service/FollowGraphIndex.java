@@ -0,0 +1,156 @@
+package com.todolist.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todolist.repository.FollowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 팔로우 대상 ID 인덱스
+ * - 팔로워마다 팔로우 대상 ID를 정렬된 long[]에 담아두고 이진 탐색으로 팔로우 여부를 확인한다.
+ *   (Long 박싱과 HashMap 노드 없이 간선 1개당 8바이트)
+ * - 처음 조회할 때 해당 팔로워의 간선만 DB에서 읽어오고, 회원 수 기준으로 크기를 제한한다.
+ * - 배열은 교체만 하고 수정하지 않으므로 조회는 락 없이 이루어진다.
+ * - 다른 인스턴스에서 일어난 팔로우 변경은 TTL이 지나야 반영되므로 권한 확인에 그대로 쓰면 안 된다.
+ *   "팔로우하지 않음"이면 DB 조회를 건너뛰는 데만 쓰고, "팔로우 중"이면 호출하는 쪽에서 DB로 다시 확인한다.
+ * - 팔로우 변경이 반영될 때마다 쓰기 번호를 올리고, 읽는 도중 번호가 바뀐 로딩 결과는 인덱스에 올리지 않는다.
+ *   (언팔로우가 커밋되기 전에 읽은 간선이 언팔로우 반영 뒤에 인덱스에 들어가는 것을 막음)
+ */
+@Component
+public class FollowGraphIndex implements MeterBinder {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FollowRepository followRepository;
+    private final Cache<Long, long[]> followees;
+    private final AtomicLong writes = new AtomicLong();
+
+    public FollowGraphIndex(FollowRepository followRepository,
+                            @Value("${follow.graph-index.max-members:100000}") long maxMembers,
+                            @Value("${follow.graph-index.ttl-seconds:600}") long ttlSeconds) {
+        this.followRepository = followRepository;
+        this.followees = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public boolean isFollowing(Long followerId, Long followeeId) {
+        long[] ids = followeeIds(followerId);
+        return Arrays.binarySearch(ids, followeeId) >= 0;
+    }
+
+    /**
+     * 팔로우 대상 ID 목록 (오름차순)
+     * - 인덱스가 가진 배열을 그대로 반환하므로 수정하면 안 된다.
+     */
+    public long[] followeeIds(Long followerId) {
+        long[] cached = followees.getIfPresent(followerId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = writes.get();
+        long[] loaded = load(followerId);
+        // 같은 키의 add, remove와 겹치지 않도록 compute 안에서 쓰기 번호를 비교한 뒤 올림
+        long[] installed = followees.asMap().compute(followerId,
+                (id, current) -> current != null ? current : writes.get() == stamp ? loaded : null);
+        return installed != null ? installed : loaded;
+    }
+
+    /**
+     * 팔로우가 커밋된 뒤 인덱스에 반영
+     * - 아직 읽어오지 않은 팔로워는 다음 조회 때 DB에서 읽으므로 건드리지 않는다.
+     * - 커밋 전에 반영하면 롤백된 팔로우가 인덱스에 남을 수 있음
+     */
+    public void add(Long followerId, Long followeeId) {
+        afterCommit(() -> {
+            writes.incrementAndGet();
+            followees.asMap().computeIfPresent(followerId, (id, ids) -> insert(ids, followeeId));
+        });
+    }
+
+    /**
+     * 언팔로우가 커밋된 뒤 팔로워의 간선을 버림 (다음 조회 때 DB에서 다시 읽음)
+     */
+    public void remove(Long followerId, Long followeeId) {
+        afterCommit(() -> invalidate(followerId));
+    }
+
+    /**
+     * 팔로워의 간선을 버리고 다음 조회 때 DB에서 다시 읽도록 함
+     */
+    public void invalidate(Long followerId) {
+        writes.incrementAndGet();
+        followees.invalidate(followerId);
+    }
+
+    /**
+     * 인덱스에 올라와 있는 간선 수 (메모리 사용량 확인용)
+     */
+    public long edgeCount() {
+        return followees.asMap().values().stream()
+                .mapToLong(ids -> ids.length)
+                .sum();
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions 등을 /actuator/metrics 로 노출
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, followees, "follow.graph");
+    }
+
+    private long[] load(Long followerId) {
+        List<Long> ids = followRepository.findFolloweeIdsByFollowerId(followerId);
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sorted = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // 로딩 시점에 따라 이미 반영된 간선이 다시 들어올 수 있으므로 멱등하게 처리
+    private static long[] insert(long[] ids, long followeeId) {
+        int index = Arrays.binarySearch(ids, followeeId);
+        if (index >= 0) {
+            return ids;
+        }
+
+        int position = -index - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, position);
+        copy[position] = followeeId;
+        System.arraycopy(ids, position, copy, position + 1, ids.length - position);
+        return copy;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
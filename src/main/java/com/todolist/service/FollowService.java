@@ -1,24 +1,33 @@
 package com.todolist.service;
 
 import com.todolist.entity.Follow;
-import com.todolist.entity.Member;
-import com.todolist.entity.Todo;
 import com.todolist.exception.BadRequestException;
 import com.todolist.exception.ConflictException;
 import com.todolist.exception.NotFoundException;
 import com.todolist.repository.FollowRepository;
 import com.todolist.repository.MemberRepository;
 import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.FollowMemberRow;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.repository.dto.TodoViewCursorSlice;
+import com.todolist.service.cursor.CursorCodec;
+import com.todolist.service.dto.response.FollowCursorListResponse;
 import com.todolist.service.dto.response.FollowingListResponse;
 import com.todolist.service.dto.response.FollowingResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
 
 @Slf4j
 @Service
@@ -26,83 +35,189 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FollowService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final FollowRepository followRepository;
     private final MemberRepository memberRepository;
     private final TodoRepository todoRepository;
+    private final TodoHitCounter todoHitCounter;
+    private final TodoListCache todoListCache;
+    private final TodoVersionTracker todoVersionTracker;
+    private final FollowGraphIndex followGraphIndex;
+    private final TimelineFanoutWorker timelineFanoutWorker;
+    private final TransactionOperations transactionOperations;
 
-    public FollowingListResponse getFollowings(Member me, int pageNum) {
+    public FollowingListResponse getFollowings(Long memberId, int pageNum) {
 
         Pageable pageable = PageRequest.of(pageNum, 10);
-        Page<FollowingResponse> followings = followRepository.findFolloweeByFollower(me, pageable)
+        Slice<FollowingResponse> followings = followRepository.findFolloweeRowsByFollowerId(memberId, pageable)
                 .map(FollowingResponse::from);
 
         return FollowingListResponse.from(followings);
     }
 
-    @Transactional
-    public void follow(Member me, Long followeeId) {
+    /**
+     * 팔로잉, 팔로워 목록 키셋 페이징
+     * - 회원 ID 오름차순으로 커서(마지막 회원 ID) 이후 size + 1개만 인덱스에서 읽으므로 몇 번째 페이지든 비용이 같다.
+     */
+    public FollowCursorListResponse getFollowingsByCursor(Long memberId, String cursor, int size) {
+
+        verifyPageSize(size);
+
+        List<FollowMemberRow> rows = followRepository.findFolloweeRowsByFollowerIdAfter(memberId, cursorOrFirst(cursor), PageRequest.of(0, size + 1));
+
+        return toCursorListResponse(rows, size);
+    }
+
+    public FollowCursorListResponse getFollowers(Long memberId, String cursor, int size) {
+
+        verifyPageSize(size);
+
+        List<FollowMemberRow> rows = followRepository.findFollowerRowsByFolloweeIdAfter(memberId, cursorOrFirst(cursor), PageRequest.of(0, size + 1));
+
+        return toCursorListResponse(rows, size);
+    }
 
-        if (me.getId().equals(followeeId)) {
+    /**
+     * 팔로우
+     * - 회원 조회, 중복 확인 없이 INSERT 하고, 중복 팔로우(유니크 제약)나 없는 회원(FK 제약)은 제약 조건 위반으로 판단
+     * - 제약 조건 위반 후에도 회원 존재 여부를 조회할 수 있도록 INSERT와 카운터 변경만 별도 트랜잭션에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void follow(Long memberId, Long followeeId) {
+
+        if (memberId.equals(followeeId)) {
             throw new BadRequestException("자기 자신은 팔로우 대상이 아닙니다.");
         }
 
-        Member follower = findMemberOrElseThrow(me.getId(), "사용자를 찾을 수 없습니다.");
-        Member followee = findMemberOrElseThrow(followeeId, "팔로우할 사용자를 찾을 수 없습니다.");
+        // 인증된 회원은 존재가 보장됨 -> 조회 없이 프록시로 FK만 연결
+        Follow follow = Follow.builder()
+                .follower(memberRepository.getReferenceById(memberId))
+                .followee(memberRepository.getReferenceById(followeeId))
+                .build();
 
-        if (followRepository.existsByFollowerAndFollowee(follower, followee)) {
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                followRepository.saveAndFlush(follow);
+                memberRepository.adjustFollowCounts(memberId, followeeId, 1);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!memberRepository.existsById(followeeId)) {
+                throw new NotFoundException("팔로우할 사용자를 찾을 수 없습니다.");
+            }
             throw new ConflictException("이미 팔로우한 회원입니다.");
         }
 
-        Follow follow = Follow.builder()
-                .follower(follower)
-                .followee(followee)
-                .build();
-        followRepository.save(follow);
+        followGraphIndex.add(memberId, followeeId);
+        timelineFanoutWorker.followed(memberId, followeeId);
     }
 
     @Transactional
-    public void unfollow(Member me, Long followeeId) {
-
-        Member follower = findMemberOrElseThrow(me.getId(), "사용자를 찾을 수 없습니다.");
-        Member followee = findMemberOrElseThrow(followeeId, "언팔로우할 사용자를 찾을 수 없습니다.");
+    public void unfollow(Long memberId, Long followeeId) {
 
-        if (!followRepository.existsByFollowerAndFollowee(follower, followee)) {
+        // 삭제된 행이 없을 때만 이유를 구분
+        if (followRepository.deleteByFollowerIdAndFolloweeId(memberId, followeeId) == 0) {
+            if (!memberRepository.existsById(followeeId)) {
+                throw new NotFoundException("언팔로우할 사용자를 찾을 수 없습니다.");
+            }
             throw new BadRequestException("팔로우가 되어 있지 않은 사용자입니다.");
         }
 
-        followRepository.deleteByFollowerAndFollowee(follower, followee);
+        memberRepository.adjustFollowCounts(memberId, followeeId, -1);
+        followGraphIndex.remove(memberId, followeeId);
+        timelineFanoutWorker.unfollowed(memberId, followeeId);
     }
 
-    @Transactional
-    public TodoListResponse readFolloweeTodoList(Member me, Long followeeId, int pageNum) {
+    /**
+     * 팔로우한 사람의 투두 목록 ETag
+     * - 팔로우를 끊은 뒤에 304를 받지 않도록 팔로우 여부를 확인한 뒤 반환
+     */
+    public String getFolloweeTodoListETag(Long memberId, Long followeeId) {
+        String eTag = todoVersionTracker.eTag(followeeId);
+        verifyFollowing(memberId, followeeId);
+        return eTag;
+    }
 
-        if (me.getId().equals(followeeId)) {
-            throw new BadRequestException("본인의 투두리스트를 요청하였습니다.");
-        }
+    public TodoListResponse readFolloweeTodoList(Long memberId, Long followeeId, int pageNum) {
 
-        Member follower = findMemberOrElseThrow(me.getId(), "사용자를 찾을 수 없습니다.");
-        Member followee = findMemberOrElseThrow(followeeId, "팔로우한 사용자를 찾을 수 없습니다.");
+        // 버전은 팔로우 확인 쿼리보다 먼저 읽음 (TodoListCache.get 참고)
+        long version = todoVersionTracker.current(followeeId);
+        verifyFollowing(memberId, followeeId);
 
-        if (!followRepository.existsByFollowerAndFollowee(follower, followee)) {
-            throw new BadRequestException("해당 사용자를 팔로우하고 있지 않습니다.");
-        }
+        // 팔로우한 사람의 목록은 본인 목록과 내용이 같으므로 같은 캐시 항목을 사용
+        TodoListResponse response = todoListCache.get(followeeId, version, TodoListCache.pageQuery(pageNum), () -> {
+            Pageable pageable = PageRequest.of(pageNum, 10);
+            Slice<TodoView> todos = todoRepository.findViewSliceByMemberId(followeeId, pageable);
 
-        Pageable pageable = PageRequest.of(pageNum, 10);
-        Page<Todo> todos = todoRepository.findByMemberId(followee.getId(), pageable);
+            return TodoListResponse.from(todos);
+        });
 
         /**
          * 조회수 증가
+         * - 메모리에 누적 후 일정 주기로 DB에 반영 (TodoHitCounter)
+         * - 캐시에서 응답하더라도 조회수는 증가
          */
-        todos.forEach(todo -> {
-            todo.increaseHit();
-            todoRepository.save(todo);
+        response.todos().forEach(todo -> todoHitCounter.increase(todo.id()));
+
+        return response;
+    }
+
+    public TodoCursorListResponse readFolloweeTodoListByCursor(Long memberId, Long followeeId, String cursor, int size) {
+
+        long version = todoVersionTracker.current(followeeId);
+        verifyFollowing(memberId, followeeId);
+        verifyPageSize(size);
+
+        Long cursorId = CursorCodec.decode(cursor);
+        TodoCursorListResponse response = todoListCache.get(followeeId, version, TodoListCache.cursorQuery(null, cursorId, size), () -> {
+            TodoViewCursorSlice todos = todoRepository.findViewSliceByMemberId(followeeId, null, cursorId, size);
+
+            return TodoCursorListResponse.from(todos);
         });
+        response.todos().forEach(todo -> todoHitCounter.increase(todo.id()));
 
-        return TodoListResponse.from(todos);
+        return response;
     }
 
-    private Member findMemberOrElseThrow(Long memberId, String message) {
-        return memberRepository.findById(memberId)
-                .orElseThrow(() -> new NotFoundException(message));
+    // 팔로우 중인 사용자의 투두를 요청했는지 확인하는 메소드
+    private void verifyFollowing(Long memberId, Long followeeId) {
+
+        if (memberId.equals(followeeId)) {
+            throw new BadRequestException("본인의 투두리스트를 요청하였습니다.");
+        }
+
+        // 권한 확인이므로 인스턴스마다 따로 있는 인덱스(다른 인스턴스의 언팔로우를 모를 수 있음) 대신 DB로 확인
+        // 팔로우 관계가 있으면 두 회원 모두 존재하므로 회원 조회는 하지 않음
+        if (followRepository.existsByFollowerIdAndFolloweeId(memberId, followeeId)) {
+            return;
+        }
+
+        // 팔로우하지 않은 경우에만 존재하지 않는 회원인지 구분
+        if (!memberRepository.existsById(followeeId)) {
+            throw new NotFoundException("팔로우한 사용자를 찾을 수 없습니다.");
+        }
+        throw new BadRequestException("해당 사용자를 팔로우하고 있지 않습니다.");
+    }
+
+    private static Long cursorOrFirst(String cursor) {
+        Long cursorId = CursorCodec.decode(cursor);
+        return cursorId != null ? cursorId : Long.MIN_VALUE;
+    }
+
+    // size + 1개를 읽었으면 다음 페이지가 있음
+    private static FollowCursorListResponse toCursorListResponse(List<FollowMemberRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<FollowingResponse> members = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(FollowingResponse::from)
+                .toList();
+
+        return FollowCursorListResponse.of(members, size, hasNext);
+    }
+
+    // 페이지 사이즈가 허용 범위인지 확인하는 메소드
+    private void verifyPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지 사이즈는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: size = " + size);
+        }
     }
 }
@@ -0,0 +1,321 @@
+package com.todolist.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 팔로우 추천 인덱스 (친구의 친구)
+ * - 일정 주기로 follow 테이블 전체를 읽어 CSR(Compressed Sparse Row) 그래프로 만든다.
+ *   회원 ID는 정렬된 long[]에서의 위치(0 ~ n-1)로 바꾸고, 위치 i 회원의 팔로우 대상은 targets[offsets[i] ~ offsets[i + 1]) 구간에 둔다.
+ * - 회원마다 팔로우 대상이 팔로우하는 회원을 세어, 겹치는 수(함께 아는 사람 수)가 많은 topN명을 ForkJoinPool에서 병렬로 미리 계산한다.
+ *   (본인과 이미 팔로우한 회원은 작업 스레드별 비트셋으로 제외)
+ * - 계산 결과는 수정하지 않는 스냅샷으로 만들어 참조만 교체하므로 조회는 락 없이 이루어진다.
+ * - 스냅샷 이후의 팔로우 변경은 다음 재계산 때 반영된다.
+ */
+@Slf4j
+@Component
+public class FollowSuggestionIndex implements MeterBinder {
+
+    private static final String EDGE_SQL = "SELECT follower_id, followee_id FROM follow";
+
+    // 작업 하나가 맡는 최소 회원 수 (너무 잘게 나누면 작업 생성 비용이 더 큼)
+    private static final int MIN_TASK_SIZE = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int topN;
+    private final int maxExpansion;
+    private final ForkJoinPool pool;
+
+    private volatile Snapshot snapshot;
+    private volatile long lastBuildMillis;
+
+    public FollowSuggestionIndex(JdbcTemplate jdbcTemplate,
+                                 @Value("${follow.suggestion.top-n:10}") int topN,
+                                 @Value("${follow.suggestion.max-expansion:10000}") int maxExpansion,
+                                 @Value("${follow.suggestion.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.topN = topN;
+        this.maxExpansion = maxExpansion;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.snapshot = Snapshot.empty(topN);
+    }
+
+    /**
+     * 추천 회원 목록 (겹치는 수 내림차순, 같으면 회원 ID 오름차순)
+     * - 스냅샷에 없는 회원(팔로우한 사람이 없는 회원 등)은 빈 목록
+     */
+    public List<Suggestion> suggestions(Long memberId) {
+        return snapshot.suggestions(memberId);
+    }
+
+    public int topN() {
+        return topN;
+    }
+
+    @Scheduled(fixedDelayString = "${follow.suggestion.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            EdgeBuffer edges = new EdgeBuffer();
+            jdbcTemplate.query(EDGE_SQL, (RowCallbackHandler) rs -> edges.add(rs.getLong(1), rs.getLong(2)));
+
+            snapshot = build(edges.followerIds, edges.followeeIds, edges.size, topN, maxExpansion, pool);
+            lastBuildMillis = System.currentTimeMillis() - start;
+            log.info("팔로우 추천 재계산: members = {}, edges = {}, elapsed = {}ms", snapshot.memberCount(), edges.size, lastBuildMillis);
+        } catch (DataAccessException e) {
+            // 실패하면 이전 스냅샷을 그대로 사용
+            log.warn("팔로우 추천 재계산 실패: message = {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 간선 목록(followerIds[i] -> followeeIds[i])으로 추천 스냅샷 생성
+     */
+    static Snapshot build(long[] followerIds, long[] followeeIds, int edgeCount, int topN, int maxExpansion, ForkJoinPool pool) {
+
+        // 1. 회원 ID -> 위치 (정렬된 배열이므로 위치 순서가 곧 회원 ID 순서)
+        long[] ids = new long[edgeCount * 2];
+        System.arraycopy(followerIds, 0, ids, 0, edgeCount);
+        System.arraycopy(followeeIds, 0, ids, edgeCount, edgeCount);
+        Arrays.sort(ids);
+        long[] memberIds = Arrays.stream(ids).distinct().toArray();
+        int n = memberIds.length;
+
+        // 2. CSR (팔로워 위치별 간선 수 -> 누적합으로 시작 위치 -> 팔로우 대상 채우기)
+        int[] sources = new int[edgeCount];
+        int[] offsets = new int[n + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            sources[edge] = Arrays.binarySearch(memberIds, followerIds[edge]);
+            offsets[sources[edge] + 1]++;
+        }
+        for (int member = 0; member < n; member++) {
+            offsets[member + 1] += offsets[member];
+        }
+
+        int[] targets = new int[edgeCount];
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            targets[next[sources[edge]]++] = Arrays.binarySearch(memberIds, followeeIds[edge]);
+        }
+
+        // 3. 회원별 추천 계산 (회원마다 topN칸씩 고정된 위치에 기록하므로 작업 간 공유 쓰기가 없음)
+        Snapshot result = new Snapshot(memberIds, topN, new int[n * topN], new int[n * topN], new int[n], edgeCount);
+        int taskSize = Math.max(MIN_TASK_SIZE, n / (pool.getParallelism() * 8));
+        pool.invoke(new SuggestionBuilder(offsets, targets, result, maxExpansion).task(0, n, taskSize));
+
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("follow.suggestion.members", this, index -> index.snapshot.memberCount())
+                .description("팔로우 추천 스냅샷의 회원 수")
+                .register(registry);
+        Gauge.builder("follow.suggestion.edges", this, index -> index.snapshot.edgeCount())
+                .description("팔로우 추천 스냅샷을 만든 팔로우 수")
+                .register(registry);
+        Gauge.builder("follow.suggestion.bytes", this, index -> index.snapshot.estimatedBytes())
+                .description("팔로우 추천 스냅샷의 배열 크기")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("follow.suggestion.build.millis", this, index -> index.lastBuildMillis)
+                .description("마지막 팔로우 추천 재계산 소요 시간")
+                .register(registry);
+    }
+
+    public record Suggestion(Long memberId, int mutualCount) {
+    }
+
+    /**
+     * 추천 결과 스냅샷
+     * - 위치 i 회원의 추천은 suggested, mutualCounts의 [i * topN, i * topN + suggestionCounts[i]) 구간
+     */
+    record Snapshot(long[] memberIds, int topN, int[] suggested, int[] mutualCounts, int[] suggestionCounts, int edgeCount) {
+
+        static Snapshot empty(int topN) {
+            return new Snapshot(new long[0], topN, new int[0], new int[0], new int[0], 0);
+        }
+
+        List<Suggestion> suggestions(long memberId) {
+            int member = Arrays.binarySearch(memberIds, memberId);
+            if (member < 0) {
+                return List.of();
+            }
+
+            int base = member * topN;
+            List<Suggestion> result = new ArrayList<>(suggestionCounts[member]);
+            for (int k = 0; k < suggestionCounts[member]; k++) {
+                result.add(new Suggestion(memberIds[suggested[base + k]], mutualCounts[base + k]));
+            }
+            return result;
+        }
+
+        int memberCount() {
+            return memberIds.length;
+        }
+
+        long estimatedBytes() {
+            return memberIds.length * 8L + (suggested.length + mutualCounts.length + suggestionCounts.length) * 4L;
+        }
+    }
+
+    private static final class SuggestionBuilder {
+
+        private final int[] offsets;
+        private final int[] targets;
+        private final Snapshot result;
+        private final int maxExpansion;
+
+        // 회원 수 크기의 작업 공간을 작업이 끝나면 돌려받아 재사용 (동시에 실행되는 작업 수만큼만 만들어짐)
+        // ThreadLocal은 풀 스레드에 남아 재계산할 때마다 이전 스냅샷 크기의 배열이 쌓이므로 쓰지 않음
+        private final Queue<Scratch> scratches = new ConcurrentLinkedQueue<>();
+
+        private SuggestionBuilder(int[] offsets, int[] targets, Snapshot result, int maxExpansion) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.result = result;
+            this.maxExpansion = maxExpansion;
+        }
+
+        private RecursiveAction task(int from, int to, int taskSize) {
+            return new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    if (to - from <= taskSize) {
+                        Scratch s = scratches.poll();
+                        if (s == null) {
+                            s = new Scratch(result.memberCount());
+                        }
+                        for (int member = from; member < to; member++) {
+                            suggest(member, s);
+                        }
+                        scratches.offer(s);
+                        return;
+                    }
+
+                    // 팔로우 수가 회원마다 달라 작업량이 고르지 않으므로 반씩 나눠 놀고 있는 스레드가 가져가게 함
+                    int mid = (from + to) >>> 1;
+                    invokeAll(task(from, mid, taskSize), task(mid, to, taskSize));
+                }
+            };
+        }
+
+        private void suggest(int member, Scratch s) {
+            int begin = offsets[member];
+            int end = offsets[member + 1];
+            if (begin == end) {
+                return;
+            }
+
+            // 본인과 이미 팔로우한 회원 표시
+            s.excluded.set(member);
+            for (int i = begin; i < end; i++) {
+                s.excluded.set(targets[i]);
+            }
+
+            // 팔로우 대상이 팔로우하는 회원별로 겹치는 수 세기
+            // (팔로우 대상이 너무 많은 회원을 거치면 한 회원의 계산이 길어지므로 건너뜀)
+            int touchedCount = 0;
+            for (int i = begin; i < end; i++) {
+                int followee = targets[i];
+                if (offsets[followee + 1] - offsets[followee] > maxExpansion) {
+                    continue;
+                }
+                for (int j = offsets[followee]; j < offsets[followee + 1]; j++) {
+                    int candidate = targets[j];
+                    if (!s.excluded.get(candidate) && s.counts[candidate]++ == 0) {
+                        s.touched[touchedCount++] = candidate;
+                    }
+                }
+            }
+
+            // 상위 topN개를 삽입 정렬로 유지 (topN이 작아 힙보다 단순하고 빠름)
+            int topN = result.topN();
+            int base = member * topN;
+            int size = 0;
+            for (int k = 0; k < touchedCount; k++) {
+                int candidate = s.touched[k];
+                int count = s.counts[candidate];
+                s.counts[candidate] = 0;
+
+                if (size == topN && !isBetter(count, candidate, result.mutualCounts()[base + size - 1], result.suggested()[base + size - 1])) {
+                    continue;
+                }
+
+                int position = size < topN ? size++ : topN - 1;
+                while (position > 0 && isBetter(count, candidate, result.mutualCounts()[base + position - 1], result.suggested()[base + position - 1])) {
+                    result.suggested()[base + position] = result.suggested()[base + position - 1];
+                    result.mutualCounts()[base + position] = result.mutualCounts()[base + position - 1];
+                    position--;
+                }
+                result.suggested()[base + position] = candidate;
+                result.mutualCounts()[base + position] = count;
+            }
+            result.suggestionCounts()[member] = size;
+
+            // 다음 회원을 위해 비트셋 정리 (counts는 위에서 0으로 되돌림)
+            s.excluded.clear(member);
+            for (int i = begin; i < end; i++) {
+                s.excluded.clear(targets[i]);
+            }
+        }
+
+        private static boolean isBetter(int count, int candidate, int otherCount, int otherCandidate) {
+            return count > otherCount || (count == otherCount && candidate < otherCandidate);
+        }
+    }
+
+    private static final class Scratch {
+
+        private final int[] counts;
+        private final int[] touched;
+        private final BitSet excluded;
+
+        private Scratch(int memberCount) {
+            this.counts = new int[memberCount];
+            this.touched = new int[memberCount];
+            this.excluded = new BitSet(memberCount);
+        }
+    }
+
+    private static final class EdgeBuffer {
+
+        private long[] followerIds = new long[1024];
+        private long[] followeeIds = new long[1024];
+        private int size;
+
+        private void add(long followerId, long followeeId) {
+            if (size == followerIds.length) {
+                int capacity = size + (size >> 1);
+                followerIds = Arrays.copyOf(followerIds, capacity);
+                followeeIds = Arrays.copyOf(followeeIds, capacity);
+            }
+            followerIds[size] = followerId;
+            followeeIds[size] = followeeId;
+            size++;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.todolist.service;
 
+import com.todolist.auth.password.PasswordHasher;
 import com.todolist.entity.Member;
 import com.todolist.exception.DuplicateEmailException;
+import com.todolist.exception.NotFoundException;
+import com.todolist.exception.ServiceUnavailableException;
 import com.todolist.exception.UnauthorizedException;
-import com.todolist.auth.jwt.JwtTokenProvider;
 import com.todolist.auth.jwt.dto.JwtToken;
 import com.todolist.repository.MemberRepository;
 import com.todolist.service.dto.request.MemberRequest;
+import com.todolist.service.dto.response.MemberProfileResponse;
 import com.todolist.service.dto.response.RegisterResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Slf4j
 @Service
@@ -21,10 +25,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
+    /**
+     * 회원가입, 로그인은 트랜잭션 없이 실행
+     * - 해시 계산(PasswordHasher)을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 조회, 저장은 각자의 짧은 트랜잭션에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RegisterResponse register(MemberRequest request) {
         // 가입하려는 이메일이 존재할 경우 가입 X
         if (memberRepository.existsByEmail(request.email())) {
@@ -34,7 +43,7 @@ public class MemberService {
 
         Member member = Member.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHasher.encode(request.password()))
                 .nickname(request.nickname())
                 .build();
         memberRepository.save(member);
@@ -42,7 +51,7 @@ public class MemberService {
         return RegisterResponse.from(member);
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public JwtToken login(MemberRequest request) {
         log.info("로그인 요청: email = {}", request.email());
         // 가입된 이메일이 없을 경우 로그인 X
@@ -50,11 +59,38 @@ public class MemberService {
                 .orElseThrow(() -> new UnauthorizedException("존재하지 않은 아이디입니다."));
 
         // 비밀번호가 일치하지 않을 경우 로그인 X
-        if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+        if (!passwordHasher.matches(request.password(), member.getPassword())) {
             throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 저장된 해시의 strength가 현재 설정보다 낮으면 평문을 알고 있는 지금 다시 해시해서 저장
+        if (passwordHasher.upgradeEncoding(member.getPassword())) {
+            upgradePassword(member, request.password());
+        }
+
         log.info("로그인 성공: member_id = {}", member.getId());
-        return jwtTokenProvider.createToken(member);
+        return refreshTokenService.issue(member);
+    }
+
+    // 다시 해시하지 못해도 로그인은 성공 처리 (다음 로그인 때 다시 시도)
+    private void upgradePassword(Member member, String rawPassword) {
+        try {
+            String upgraded = passwordHasher.encode(rawPassword);
+            transactionOperations.executeWithoutResult(status ->
+                    memberRepository.updatePassword(member.getId(), member.getPassword(), upgraded));
+        } catch (ServiceUnavailableException e) {
+            log.warn("비밀번호 해시 갱신 보류: member_id = {}", member.getId());
+        }
+    }
+
+    /**
+     * 프로필 조회
+     * - 팔로워, 팔로잉 수는 Member의 카운터를 그대로 사용하므로 PK 조회 한 번으로 끝난다.
+     */
+    public MemberProfileResponse getProfile(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new NotFoundException("회원을 찾을 수 없습니다."));
+
+        return MemberProfileResponse.from(member);
     }
 }
@@ -0,0 +1,124 @@
+package com.todolist.service;
+
+import com.todolist.auth.jwt.JwtTokenProvider;
+import com.todolist.auth.jwt.RefreshTokenStore;
+import com.todolist.auth.jwt.RefreshTokenStore.Entry;
+import com.todolist.auth.jwt.TokenRevocationList;
+import com.todolist.auth.jwt.dto.JwtToken;
+import com.todolist.entity.Member;
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import com.todolist.exception.UnauthorizedException;
+import com.todolist.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * RefreshToken 발급, 재발급
+ * - 재발급할 때마다 RefreshToken도 새로 발급하고(rotation) 사용한 토큰은 다시 쓸 수 없다.
+ * - 이미 사용된 토큰이 다시 들어오면 탈취로 보고 같은 계열(family)의 토큰을 모두 폐기한다.
+ * - 재발급은 서명 검증(HMAC)과 PK 조회만 하므로 로그인(BCrypt)보다 훨씬 가볍다.
+ * - 재발급할 때 회원을 다시 읽어 탈퇴한 회원은 거부하고, 새 토큰에는 현재 이메일, 닉네임을 담는다.
+ * - 로그아웃하면 AccessToken은 폐기 목록에 넣고, RefreshToken은 계열째 삭제한다.
+ * - 계열을 폐기할 때는 그 계열에서 이미 발급한 AccessToken도 계열 ID(fid)로 함께 폐기한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final String INVALID_MESSAGE = "유효하지 않은 RefreshToken입니다.";
+    private static final String REUSED_MESSAGE = "이미 사용된 RefreshToken입니다. 다시 로그인해 주세요.";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final MemberRepository memberRepository;
+    private final SnowflakeIdGenerator idGenerator;
+
+    /**
+     * 로그인 시 새 계열로 토큰 발급
+     */
+    @Transactional
+    public JwtToken issue(Member member) {
+        return issue(member.getId(), member.getEmail(), member.getNickname(), idGenerator.nextId());
+    }
+
+    /**
+     * RefreshToken으로 토큰 재발급
+     * - 재사용을 감지해 계열을 폐기한 경우에도 삭제는 커밋되어야 하므로 UnauthorizedException은 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public JwtToken rotate(String refreshToken) {
+        Claims claims = refreshToken != null ? jwtTokenProvider.resolveRefreshClaims(refreshToken) : null;
+        if (claims == null || claims.getId() == null) {
+            throw new UnauthorizedException(INVALID_MESSAGE);
+        }
+
+        Long familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, Long.class);
+        Entry entry = refreshTokenStore.find(Long.valueOf(claims.getId()));
+        // 폐기, 만료되어 삭제된 토큰이거나 저장된 토큰과 다른 경우
+        if (entry == null || !entry.familyId().equals(familyId)
+                || !entry.tokenHash().equals(RefreshTokenStore.hash(refreshToken))) {
+            throw new UnauthorizedException(INVALID_MESSAGE);
+        }
+
+        // 동시에 같은 토큰으로 요청해도 한 요청만 통과 (나머지는 재사용으로 판단)
+        if (!refreshTokenStore.markUsed(entry)) {
+            int revoked = revokeFamily(familyId);
+            log.warn("RefreshToken 재사용 감지, 계열 폐기: family_id = {}, tokens = {}", familyId, revoked);
+            throw new UnauthorizedException(REUSED_MESSAGE);
+        }
+
+        // 토큰에 담긴 회원 정보는 발급 당시 값이므로 회원을 다시 읽음
+        Member member = memberRepository.findById(entry.memberId()).orElse(null);
+        if (member == null) {
+            revokeFamily(familyId);
+            throw new UnauthorizedException(INVALID_MESSAGE);
+        }
+
+        log.info("토큰 재발급: member_id = {}", member.getId());
+        return issue(member.getId(), member.getEmail(), member.getNickname(), familyId);
+    }
+
+    /**
+     * 로그아웃
+     * - AccessToken은 만료 시각까지 폐기 목록에 남아 다른 서버에서도 더 이상 인증되지 않는다.
+     * - 함께 보낸 RefreshToken이 본인 것이면 같은 계열의 토큰을 모두 삭제해 재발급도 막는다.
+     */
+    @Transactional
+    public void logout(Long memberId, String accessToken, String refreshToken) {
+        Claims claims = jwtTokenProvider.resolveClaims(accessToken);
+        if (claims == null) {
+            throw new UnauthorizedException();
+        }
+        tokenRevocationList.revoke(claims);
+
+        Claims refreshClaims = refreshToken != null ? jwtTokenProvider.resolveRefreshClaims(refreshToken) : null;
+        if (refreshClaims != null && memberId.equals(refreshClaims.get("id", Long.class))) {
+            revokeFamily(refreshClaims.get(JwtTokenProvider.FAMILY_CLAIM, Long.class));
+        }
+
+        log.info("로그아웃: member_id = {}", memberId);
+    }
+
+    // RefreshToken은 계열째 삭제하고, 이미 발급한 AccessToken은 계열 ID로 폐기
+    private int revokeFamily(Long familyId) {
+        tokenRevocationList.revokeFamily(familyId);
+        return refreshTokenStore.revokeFamily(familyId);
+    }
+
+    private JwtToken issue(Long memberId, String email, String nickname, Long familyId) {
+        Long tokenId = idGenerator.nextId();
+        long expiresAt = System.currentTimeMillis() + JwtTokenProvider.REFRESH_TOKEN_VALID;
+
+        String accessToken = jwtTokenProvider.createAccessToken(idGenerator.nextId(), familyId, memberId, email, nickname);
+        String refreshToken = jwtTokenProvider.createRefreshToken(memberId, email, nickname, familyId, tokenId, expiresAt);
+        refreshTokenStore.save(new Entry(tokenId, memberId, familyId, RefreshTokenStore.hash(refreshToken), expiresAt, false));
+
+        return new JwtToken(accessToken, refreshToken);
+    }
+}
@@ -0,0 +1,65 @@
+package com.todolist.service;
+
+import com.todolist.entity.Member;
+import com.todolist.exception.BadRequestException;
+import com.todolist.repository.MemberRepository;
+import com.todolist.service.FollowSuggestionIndex.Suggestion;
+import com.todolist.service.dto.response.SuggestionListResponse;
+import com.todolist.service.dto.response.SuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 추천 (친구의 친구)
+ * - 추천 목록은 FollowSuggestionIndex가 미리 계산해 둔 것을 사용하고, 요청마다 그래프를 조회하지 않는다.
+ * - 스냅샷 이후에 팔로우한 회원은 FollowGraphIndex로 다시 거른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SuggestionService {
+
+    private final FollowSuggestionIndex followSuggestionIndex;
+    private final FollowGraphIndex followGraphIndex;
+    private final MemberRepository memberRepository;
+
+    public SuggestionListResponse getSuggestions(Long memberId, int size) {
+
+        verifySize(size);
+
+        List<Suggestion> suggestions = followSuggestionIndex.suggestions(memberId).stream()
+                .filter(suggestion -> !followGraphIndex.isFollowing(memberId, suggestion.memberId()))
+                .limit(size)
+                .toList();
+        if (suggestions.isEmpty()) {
+            return SuggestionListResponse.from(List.of());
+        }
+
+        // 닉네임 등은 IN 조회 한 번으로 가져오고, 그 사이 탈퇴한 회원은 제외
+        Map<Long, Member> members = memberRepository.findAllById(suggestions.stream().map(Suggestion::memberId).toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<SuggestionResponse> responses = suggestions.stream()
+                .filter(suggestion -> members.containsKey(suggestion.memberId()))
+                .map(suggestion -> SuggestionResponse.of(members.get(suggestion.memberId()), suggestion.mutualCount()))
+                .toList();
+
+        return SuggestionListResponse.from(responses);
+    }
+
+    // 추천 수가 미리 계산한 범위인지 확인하는 메소드
+    private void verifySize(int size) {
+        int max = followSuggestionIndex.topN();
+        if (size < 1 || size > max) {
+            throw new BadRequestException("추천 수는 1 ~ " + max + " 사이여야 합니다: size = " + size);
+        }
+    }
+}
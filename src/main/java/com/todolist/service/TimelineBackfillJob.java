@@ -0,0 +1,46 @@
+package com.todolist.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 팔로우 관계의 타임라인 백필
+ * - 타임라인은 도입 이후의 투두 작성, 팔로우 이벤트로만 채워지므로, 그 전의 팔로우 관계와 가져오기로 저장된 투두는 타임라인에 없다.
+ * - timeline.backfill-on-startup이 켜져 있으면 기동이 끝난 뒤 모든 팔로우 관계를 한 번 채운다.
+ *   (백필이 끝난 뒤 timeline.enabled를 켜고, 다음 배포부터는 backfill-on-startup을 끔)
+ */
+@Slf4j
+@Component
+public class TimelineBackfillJob {
+
+    private final TimelineFanoutWorker timelineFanoutWorker;
+    private final boolean onStartup;
+    private final int chunkSize;
+
+    public TimelineBackfillJob(TimelineFanoutWorker timelineFanoutWorker,
+                               @Value("${timeline.backfill-on-startup:false}") boolean onStartup,
+                               @Value("${timeline.backfill-chunk-size:500}") int chunkSize) {
+        this.timelineFanoutWorker = timelineFanoutWorker;
+        this.onStartup = onStartup;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!onStartup) {
+            return;
+        }
+
+        try {
+            int follows = timelineFanoutWorker.backfillAll(chunkSize);
+            log.info("타임라인 백필 완료: follows = {}", follows);
+        } catch (DataAccessException e) {
+            // 관계마다 다시 채우므로 다음 기동 때 처음부터 다시 실행해도 됨
+            log.warn("타임라인 백필 실패: message = {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.todolist.service;
+
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import com.todolist.repository.FollowRepository;
+import com.todolist.repository.TimelineEntryRepository;
+import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.FollowEdgeRow;
+import com.todolist.repository.dto.TodoOwnerRow;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 타임라인 쓰기 시점 복사(fan-out-on-write) 워커
+ * - 투두 작성, 팔로우, 언팔로우가 커밋되면 이벤트를 큐에 넣기만 하고 HTTP 요청 스레드는 바로 반환한다.
+ *   (큐가 가득 차면 기다리지 않고 버림 -> 피드에서 빠질 뿐 원본 데이터에는 영향 없음)
+ * - 스케줄러 스레드가 일정 주기로 큐를 비우며 이벤트를 묶어서 팔로워별 타임라인에 JDBC 배치로 INSERT 한다.
+ *   (묶음이 실패하면 이벤트를 하나씩 다시 처리하고, 그래도 실패한 이벤트는 다음 주기에 maxAttempts번까지 다시 시도)
+ * - 상태 같은 투두 내용은 피드 조회 시 투두에서 읽으므로 상태 변경은 타임라인에 반영하지 않는다.
+ *   (다시 넣으면 크기 제한으로 정리된 항목이 되살아남)
+ * - 투두 삭제는 TodoService가 삭제 트랜잭션 안에서 타임라인 항목을 함께 지운다. (todosDeleted)
+ * - 팔로워가 많은 회원(CelebrityRegistry)의 투두는 복사하지 않고 피드 조회 시 합친다.
+ * - 타임라인은 팔로워마다 최근 capacity개까지만 유지한다.
+ * - 타임라인 도입 전의 팔로우 관계와 이벤트 없이 저장된 투두(가져오기 등)는 backfillAll로 채운다.
+ */
+@Slf4j
+@Component
+public class TimelineFanoutWorker implements MeterBinder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO timeline_entry (id, owner_id, todo_id, author_id, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    // 이벤트 하나를 처리하는 최대 시도 횟수 (넘으면 버림)
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final FollowRepository followRepository;
+    private final TodoRepository todoRepository;
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final CelebrityRegistry celebrityRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final SnowflakeIdGenerator idGenerator;
+    private final int maxBatchSize;
+    private final int capacity;
+    private final int backfillSize;
+
+    private final BlockingQueue<Pending> queue;
+    private final Set<Long> ownersToTrim = ConcurrentHashMap.newKeySet();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public TimelineFanoutWorker(FollowRepository followRepository,
+                                TodoRepository todoRepository,
+                                TimelineEntryRepository timelineEntryRepository,
+                                CelebrityRegistry celebrityRegistry,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionOperations transactionOperations,
+                                SnowflakeIdGenerator idGenerator,
+                                @Value("${timeline.fanout.queue-capacity:100000}") int queueCapacity,
+                                @Value("${timeline.fanout.max-batch-size:1000}") int maxBatchSize,
+                                @Value("${timeline.capacity:500}") int capacity,
+                                @Value("${timeline.backfill-size:50}") int backfillSize) {
+        this.followRepository = followRepository;
+        this.todoRepository = todoRepository;
+        this.timelineEntryRepository = timelineEntryRepository;
+        this.celebrityRegistry = celebrityRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.idGenerator = idGenerator;
+        this.maxBatchSize = maxBatchSize;
+        this.capacity = capacity;
+        this.backfillSize = backfillSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 투두 작성 -> 작성자의 현재 팔로워 타임라인에 반영
+     */
+    public void todoCreated(Long todoId, Long authorId) {
+        publish(new TodoCreated(todoId, authorId, System.currentTimeMillis()));
+    }
+
+    /**
+     * 팔로우 -> 팔로우 대상의 최근 투두를 팔로워 타임라인에 채움
+     */
+    public void followed(Long followerId, Long followeeId) {
+        publish(new Followed(followerId, followeeId));
+    }
+
+    /**
+     * 언팔로우 -> 팔로워 타임라인에서 팔로우 대상의 투두를 제거
+     */
+    public void unfollowed(Long followerId, Long followeeId) {
+        publish(new Unfollowed(followerId, followeeId));
+    }
+
+    /**
+     * 투두 삭제 -> 모든 타임라인에서 제거
+     * - 큐를 거치지 않고 호출한 트랜잭션(투두 삭제)에서 바로 삭제하므로 투두와 타임라인 항목이 함께 커밋된다.
+     * - 삭제 전에 큐에 들어간 작성 이벤트는 반영 시점에 투두가 없으면 건너뛴다.
+     */
+    public void todosDeleted(Collection<Long> todoIds) {
+        timelineEntryRepository.deleteByTodoIdIn(todoIds);
+    }
+
+    public int pendingEvents() {
+        return queue.size();
+    }
+
+    /**
+     * 큐에 쌓인 이벤트를 최대 maxBatchSize개씩 묶어서 처리
+     * - 묶음이 실패하면 어떤 이벤트가 원인인지 알 수 없으므로 하나씩 별도 트랜잭션으로 다시 처리
+     * - 그래도 실패한 이벤트는 이번 주기가 끝난 뒤 큐에 다시 넣어 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${timeline.fanout.flush-interval-ms:200}")
+    public synchronized void flush() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        List<Pending> retries = new ArrayList<>();
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            try {
+                transactionOperations.executeWithoutResult(status -> process(batch));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("타임라인 반영 실패, 하나씩 다시 처리: events = {}, message = {}", batch.size(), e.getMessage());
+                batch.forEach(pending -> processAlone(pending, retries));
+            }
+            batch.clear();
+        }
+
+        for (Pending retry : retries) {
+            if (!queue.offer(retry)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void processAlone(Pending pending, List<Pending> retries) {
+        try {
+            transactionOperations.executeWithoutResult(status -> process(List.of(pending)));
+        } catch (DataAccessException | TransactionException e) {
+            if (pending.attempts() + 1 < MAX_ATTEMPTS) {
+                retries.add(new Pending(pending.event(), pending.attempts() + 1));
+            } else {
+                failed.increment();
+                log.warn("타임라인 반영 포기: event = {}, message = {}", pending.event(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 크기 제한을 넘은 타임라인의 오래된 항목 삭제
+     * - 항목이 추가된 팔로워만 확인하며, 팔로워마다 (capacity + 1)번째 항목을 찾아 그 이전을 삭제
+     */
+    @Scheduled(fixedDelayString = "${timeline.trim-interval-ms:60000}")
+    public void trim() {
+        for (Long ownerId : List.copyOf(ownersToTrim)) {
+            ownersToTrim.remove(ownerId);
+            try {
+                List<Long> boundary = timelineEntryRepository.findTodoIdsByOwnerId(ownerId, PageRequest.of(capacity, 1));
+                if (!boundary.isEmpty()) {
+                    transactionOperations.executeWithoutResult(status ->
+                            timelineEntryRepository.deleteByOwnerIdAndTodoIdAtMost(ownerId, boundary.getFirst()));
+                }
+            } catch (DataAccessException e) {
+                log.warn("타임라인 정리 실패: ownerId = {}, message = {}", ownerId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 모든 팔로우 관계에 대해 팔로우 대상의 최근 투두를 팔로워 타임라인에 채움
+     * - 타임라인을 켜기 전에 한 번 실행한다. (TimelineBackfillJob)
+     * - 팔로우 관계 PK 순서대로 chunkSize개씩 별도 트랜잭션으로 처리하며, 관계마다 기존 항목을 지우고 넣으므로 다시 실행해도 된다.
+     * @return 처리한 팔로우 관계 수
+     */
+    public int backfillAll(int chunkSize) {
+        int total = 0;
+        Long lastId = Long.MIN_VALUE;
+
+        List<FollowEdgeRow> edges;
+        while (!(edges = followRepository.findEdgesAfter(lastId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            List<FollowEdgeRow> chunk = edges;
+            transactionOperations.executeWithoutResult(status ->
+                    chunk.forEach(edge -> backfill(edge.followerId(), edge.followeeId())));
+            total += chunk.size();
+            lastId = chunk.getLast().id();
+        }
+        return total;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 이벤트 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void process(List<Pending> batch) {
+
+        // 재시도 등으로 같은 투두의 이벤트가 여러 번 들어왔으면 한 번만 반영
+        Map<Long, TodoCreated> creations = new LinkedHashMap<>();
+        List<Event> followEvents = new ArrayList<>();
+        for (Pending pending : batch) {
+            Event event = pending.event();
+            if (event instanceof TodoCreated creation) {
+                creations.put(creation.todoId(), creation);
+            } else {
+                followEvents.add(event);
+            }
+        }
+
+        if (!creations.isEmpty()) {
+            fanOut(creations.values());
+        }
+
+        for (Event event : followEvents) {
+            if (event instanceof Followed followed) {
+                backfill(followed.followerId(), followed.followeeId());
+            } else if (event instanceof Unfollowed unfollowed) {
+                timelineEntryRepository.deleteByOwnerIdAndAuthorId(unfollowed.followerId(), unfollowed.followeeId());
+            }
+        }
+    }
+
+    /**
+     * 작성된 투두를 작성자의 현재 팔로워 전원의 타임라인에 넣음
+     * - 작성 이벤트가 반영되기 전에 팔로우해 백필로 이미 들어간 항목과 겹치지 않도록 기존 항목을 지우고 넣는다.
+     */
+    private void fanOut(Collection<TodoCreated> creations) {
+
+        List<TodoCreated> targets = creations.stream()
+                .filter(creation -> !celebrityRegistry.isCelebrity(creation.authorId()))
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        // 큐에서 기다리는 동안 삭제된 투두는 다시 넣지 않음
+        Set<Long> existingIds = todoRepository.findOwnerRowsByIdIn(targets.stream().map(TodoCreated::todoId).toList()).stream()
+                .map(TodoOwnerRow::id)
+                .collect(Collectors.toSet());
+
+        Map<Long, List<Long>> followersByAuthor = new LinkedHashMap<>();
+        List<Long> todoIds = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+
+        for (TodoCreated creation : targets) {
+            if (!existingIds.contains(creation.todoId())) {
+                continue;
+            }
+
+            List<Long> followerIds = followersByAuthor.computeIfAbsent(creation.authorId(), followRepository::findFollowerIdsByFolloweeId);
+            todoIds.add(creation.todoId());
+            for (Long followerId : followerIds) {
+                rows.add(new Object[]{idGenerator.nextId(), followerId, creation.todoId(), creation.authorId(), creation.occurredAt()});
+            }
+        }
+
+        if (todoIds.isEmpty()) {
+            return;
+        }
+
+        timelineEntryRepository.deleteByTodoIdIn(todoIds);
+        insert(rows);
+        followersByAuthor.values().forEach(ownersToTrim::addAll);
+    }
+
+    private void backfill(Long followerId, Long followeeId) {
+
+        timelineEntryRepository.deleteByOwnerIdAndAuthorId(followerId, followeeId);
+        if (celebrityRegistry.isCelebrity(followeeId)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = todoRepository.findIdsByMemberIdBefore(followeeId, Long.MAX_VALUE, PageRequest.of(0, backfillSize))
+                .stream()
+                .map(todoId -> new Object[]{idGenerator.nextId(), followerId, todoId, followeeId, now})
+                .toList();
+
+        insert(rows);
+        ownersToTrim.add(followerId);
+    }
+
+    private void insert(List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size())));
+        }
+        written.add(rows.size());
+    }
+
+    // 롤백된 변경이 타임라인에 들어가지 않도록 커밋 이후에 큐에 넣음
+    private void publish(Event event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(event);
+            }
+        });
+    }
+
+    private void offer(Event event) {
+        if (!queue.offer(new Pending(event, 0))) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("timeline.fanout.pending", this, TimelineFanoutWorker::pendingEvents)
+                .description("타임라인에 반영되지 않은 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("timeline.fanout.written", written, LongAdder::sum)
+                .description("타임라인에 추가된 항목 수")
+                .register(registry);
+        FunctionCounter.builder("timeline.fanout.dropped", dropped, LongAdder::sum)
+                .description("큐가 가득 차 버려진 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("timeline.fanout.failed", failed, LongAdder::sum)
+                .description("재시도 후에도 반영하지 못해 버려진 이벤트 수")
+                .register(registry);
+    }
+
+    private record Pending(Event event, int attempts) {
+    }
+
+    private sealed interface Event permits TodoCreated, Followed, Unfollowed {
+    }
+
+    private record TodoCreated(Long todoId, Long authorId, long occurredAt) implements Event {
+    }
+
+    private record Followed(Long followerId, Long followeeId) implements Event {
+    }
+
+    private record Unfollowed(Long followerId, Long followeeId) implements Event {
+    }
+}
@@ -1,24 +1,35 @@
 package com.todolist.service;
 
-import com.todolist.entity.Member;
 import com.todolist.entity.Todo;
 import com.todolist.entity.TodoDetail;
 import com.todolist.entity.enums.TodoDetailStatus;
+import com.todolist.exception.BadRequestException;
 import com.todolist.exception.ForbiddenAccessException;
 import com.todolist.exception.InvalidDeleteException;
 import com.todolist.exception.NotFoundException;
 import com.todolist.exception.TodoDetailLimitExceededException;
 import com.todolist.repository.TodoDetailRepository;
 import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.TodoDetailOwnerRow;
+import com.todolist.repository.dto.TodoDetailView;
+import com.todolist.service.dto.request.TodoDetailStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoDetailStatusUpdateRequest;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
+import com.todolist.service.dto.response.StatusUpdateResultResponse;
 import com.todolist.service.dto.response.TodoDetailResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,48 +37,107 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TodoDetailService {
 
+    private static final int MAX_DETAIL_COUNT = 3;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final TodoDetailRepository todoDetailRepository;
+    private final TodoVersionTracker todoVersionTracker;
 
     @Transactional
-    public TodoDetailResponse createTodoDetail(Member member, Long parentTodoId, TodoRequest request) {
-        // 부모 투두 확인
-        Todo parentTodo = todoRepository.findById(parentTodoId)
-                .orElseThrow(() -> new NotFoundException("상위 할 일을 찾을 수 없습니다."));
-
-        // 해당 사용자의 투두인지 확인
-        verifyTodoOwner(member, parentTodo);
-
-        // 해당 상위 투두의 세부 할 일 개수가 3개가 넘으면 예외
-        Long count = todoDetailRepository.countByTodoId(parentTodoId);
-        if (count >= 3) {
-            throw new TodoDetailLimitExceededException("세부 할 일은 최대 3개까지만 추가할 수 있습니다.");
+    public TodoDetailResponse createTodoDetail(Long memberId, Long parentTodoId, TodoRequest request) {
+        /**
+         * 부모 투두의 세부 할 일 개수를 조건부로 증가 (본인 투두 && 3개 미만)
+         * - 실패했을 때만 부모 투두를 조회해서 원인 구분
+         */
+        int increased = todoRepository.increaseDetailCount(parentTodoId, memberId, MAX_DETAIL_COUNT);
+        if (increased == 0) {
+            Todo parentTodo = findParentTodo(parentTodoId);
+            verifyTodoOwner(memberId, parentTodo);
+            throw new TodoDetailLimitExceededException("세부 할 일은 최대 " + MAX_DETAIL_COUNT + "개까지만 추가할 수 있습니다.");
         }
 
         TodoDetail todoDetail = TodoDetail.builder()
-                .todo(parentTodo)
+                .todo(todoRepository.getReferenceById(parentTodoId))
                 .detailList(request.todo())
                 .status(TodoDetailStatus.NOT_STARTED)
                 .build();
         todoDetailRepository.save(todoDetail);
+        todoVersionTracker.increase(memberId);
 
         return TodoDetailResponse.from(todoDetail);
     }
 
     @Transactional
-    public TodoDetailResponse updateTodoDetailStatus(Member member, Long todoDetailId, TodoDetailStatusUpdateRequest request) {
+    public TodoDetailResponse updateTodoDetailStatus(Long memberId, Long todoDetailId, TodoDetailStatusUpdateRequest request) {
 
-        TodoDetail todoDetail = findTodoDetail(todoDetailId);
-        Todo parentTodo = findParentTodo(todoDetail.getTodo().getId());
-        verifyTodoOwner(member, parentTodo);
+        /**
+         * 부모 투두의 소유자 조건을 건 UPDATE 한 번으로 변경
+         * - 변경된 행이 없을 때만 존재 여부를 확인해 NotFound / Forbidden 구분
+         */
+        int updated = todoDetailRepository.updateStatusByIdAndMemberId(todoDetailId, memberId, request.status());
+        if (updated == 0) {
+            throw todoDetailRepository.existsById(todoDetailId)
+                    ? new ForbiddenAccessException("해당 목록에 접근 권한이 없습니다.")
+                    : new NotFoundException("해당 할 일을 찾을 수 없습니다.");
+        }
+        todoVersionTracker.increase(memberId);
 
-        todoDetail.updateStatus(request.status());
+        // MySQL은 UPDATE ... RETURNING이 없으므로 응답에 필요한 컬럼만 PK로 조회
+        TodoDetailView todoDetail = todoDetailRepository.findViewById(todoDetailId)
+                .orElseThrow(() -> new NotFoundException("해당 할 일을 찾을 수 없습니다."));
 
         return TodoDetailResponse.from(todoDetail);
     }
 
     @Transactional
-    public void deleteTodoDetail(Member member, List<Long> todoDetailIds) {
+    public StatusBatchUpdateResponse updateTodoDetailStatuses(Long memberId, List<TodoDetailStatusBatchUpdateRequest> requests) {
+
+        /**
+         * 여러 세부 할 일의 상태를 한 트랜잭션에서 변경
+         * 1. 부모 투두의 소유자를 IN 쿼리 한 번으로 확인
+         * 2. 본인 세부 할 일을 상태별로 묶어서 상태마다 UPDATE 한 번
+         * - 없는 세부 할 일, 다른 회원의 세부 할 일은 건너뛰고 항목별 결과로 알려줌
+         */
+        verifyBatchSize(requests.size());
+
+        // 같은 ID가 여러 번 오면 마지막 상태를 적용
+        Map<Long, TodoDetailStatus> statusById = new LinkedHashMap<>();
+        for (TodoDetailStatusBatchUpdateRequest request : requests) {
+            if (request.id() == null || request.status() == null) {
+                throw new BadRequestException("변경할 세부 할 일 ID와 상태는 필수입니다.");
+            }
+            statusById.put(request.id(), request.status());
+        }
+
+        Map<Long, Long> ownerById = todoDetailRepository.findOwnerRowsByIdIn(statusById.keySet()).stream()
+                .collect(Collectors.toMap(TodoDetailOwnerRow::id, TodoDetailOwnerRow::memberId));
+
+        Map<TodoDetailStatus, List<Long>> idsByStatus = new EnumMap<>(TodoDetailStatus.class);
+        List<StatusUpdateResultResponse> results = new ArrayList<>(statusById.size());
+
+        statusById.forEach((todoDetailId, status) -> {
+            Long ownerId = ownerById.get(todoDetailId);
+            if (ownerId == null) {
+                results.add(StatusUpdateResultResponse.failed(todoDetailId, StatusUpdateResultResponse.Result.NOT_FOUND));
+            } else if (!ownerId.equals(memberId)) {
+                results.add(StatusUpdateResultResponse.failed(todoDetailId, StatusUpdateResultResponse.Result.FORBIDDEN));
+            } else {
+                idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(todoDetailId);
+                results.add(StatusUpdateResultResponse.updated(todoDetailId, status.getKoreanStatus()));
+            }
+        });
+
+        idsByStatus.forEach((status, ids) -> todoDetailRepository.updateStatusByIdInAndMemberId(ids, memberId, status));
+        if (!idsByStatus.isEmpty()) {
+            todoVersionTracker.increase(memberId);
+        }
+
+        return StatusBatchUpdateResponse.from(results);
+    }
+
+    @Transactional
+    public void deleteTodoDetail(Long memberId, List<Long> todoDetailIds) {
 
         /**
          * 요구사항
@@ -81,14 +151,21 @@ public class TodoDetailService {
             throw new NotFoundException("존재하지 않는 TODO가 있습니다.");
         }
 
+        Map<Long, Integer> deletedCountByTodoId = new HashMap<>();
         for (TodoDetail todoDetail : todoDetailList) {
             TodoDetail findTodoDetail = findTodoDetail(todoDetail.getId());
             Todo parentTodo = findParentTodo(todoDetail.getTodo().getId());
-            verifyTodoOwner(member, parentTodo);
+            verifyTodoOwner(memberId, parentTodo);
             verifyTodoDetailIsCompleted(findTodoDetail);
 
             todoDetailRepository.delete(findTodoDetail);
+            deletedCountByTodoId.merge(parentTodo.getId(), 1, Integer::sum);
         }
+
+        // 부모 투두별로 세부 할 일 개수 감소
+        deletedCountByTodoId.forEach(todoRepository::decreaseDetailCount);
+
+        todoVersionTracker.increase(memberId);
     }
 
     // 세부 할 일 존재 여부 확인하는 메소드
@@ -104,12 +181,19 @@ public class TodoDetailService {
     }
 
     // 해당 사용자의 투두인지 확인하는 메소드
-    private void verifyTodoOwner(Member member, Todo parentTodo) {
-        if (!parentTodo.getMember().getId().equals(member.getId())) {
+    private void verifyTodoOwner(Long memberId, Todo parentTodo) {
+        if (!parentTodo.getMember().getId().equals(memberId)) {
             throw new ForbiddenAccessException("해당 목록에 접근 권한이 없습니다.");
         }
     }
 
+    // 한 번에 변경할 개수가 허용 범위인지 확인하는 메소드
+    private void verifyBatchSize(int size) {
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            throw new BadRequestException("한 번에 변경할 수 있는 세부 할 일은 1 ~ " + MAX_BATCH_SIZE + "개입니다: size = " + size);
+        }
+    }
+
     // 완료된 세부 할 일인지 확인하는 메소드
     private void verifyTodoDetailIsCompleted(TodoDetail todoDetail) {
         if (todoDetail.getStatus() != TodoDetailStatus.COMPLETED) {
@@ -0,0 +1,143 @@
+package com.todolist.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 투두 조회수 write-behind 카운터
+ * - 조회 시에는 메모리의 투두별 LongAdder만 증가시키고, DB 반영은 일정 주기로 한 번에 처리한다.
+ * - 조회 트랜잭션이 행을 수정하지 않으므로 readOnly로 실행할 수 있고, 인기 투두에 행 락이 걸리지 않는다.
+ */
+@Slf4j
+@Component
+public class TodoHitCounter implements MeterBinder {
+
+    private static final String FLUSH_SQL = "UPDATE todo SET hit = hit + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPendingTodos;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 지난 flush에서 버퍼에서 뺀 항목 (flush 안에서만 접근)
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public TodoHitCounter(JdbcTemplate jdbcTemplate,
+                          @Value("${todo.hit.max-pending-todos:100000}") int maxPendingTodos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPendingTodos = maxPendingTodos;
+    }
+
+    /**
+     * 조회수 증가
+     * - 이미 버퍼에 있는 투두는 락 없이 LongAdder만 증가시킨다. (compute는 같은 투두의 조회를 한 줄로 세움)
+     * - 항목을 꺼낸 직후 flush가 항목을 빼가도, 그 항목에 늦게 들어온 증가분은 다음 flush에서 반영된다.
+     */
+    public void increase(Long todoId) {
+        LongAdder adder = pending.get(todoId);
+        if (adder == null) {
+            // 버퍼가 가득 찬 상태에서 새 투두가 들어오면 메모리를 지키기 위해 버림
+            if (pending.size() >= maxPendingTodos) {
+                dropped.increment();
+                return;
+            }
+            adder = pending.computeIfAbsent(todoId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    public long pendingIncrements() {
+        return pending.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * 쌓인 증가분을 UPDATE ... SET hit = hit + ? 배치 하나로 반영
+     * 1. 항목마다 remove(key, adder)로 버퍼에서 뺀 뒤 sumThenReset으로 증가분을 꺼냄 (뺀 뒤의 조회는 새 항목에 쌓임)
+     * 2. 빼기 직전에 항목을 꺼낸 조회가 뺀 항목에 늦게 더한 증가분은 다음 flush에서 다시 꺼내 함께 반영
+     * - 매 주기 버퍼를 비우므로 조회가 없던 투두가 자리를 차지하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${todo.hit.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> counts = new HashMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            addCount(counts, entry.getKey(), entry.getValue().sumThenReset());
+        }
+        retired = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long todoId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            if (pending.remove(todoId, adder)) {
+                retired.add(Map.entry(todoId, adder));
+                addCount(counts, todoId, adder.sumThenReset());
+            }
+        }
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(counts.size());
+        long total = 0;
+        for (Map.Entry<Long, Long> count : counts.entrySet()) {
+            batch.add(new Object[]{count.getValue(), count.getKey()});
+            total += count.getValue();
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            flushed.add(total);
+        } catch (DataAccessException e) {
+            // 반영에 실패한 증가분은 버퍼로 되돌려 다음 주기에 다시 시도 (이미 센 조회수이므로 버퍼 한도와 관계없이 되돌림)
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: todos = {}, message = {}", batch.size(), e.getMessage());
+            counts.forEach((todoId, count) -> pending.computeIfAbsent(todoId, id -> new LongAdder()).add(count));
+        }
+    }
+
+    private static void addCount(Map<Long, Long> counts, Long todoId, long count) {
+        if (count > 0) {
+            counts.merge(todoId, count, Long::sum);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.hit.pending", this, TodoHitCounter::pendingIncrements)
+                .description("DB에 반영되지 않은 조회수 증가분")
+                .register(registry);
+        FunctionCounter.builder("todo.hit.flushed", flushed, LongAdder::sum)
+                .description("DB에 반영된 조회수 증가분")
+                .register(registry);
+        FunctionCounter.builder("todo.hit.dropped", dropped, LongAdder::sum)
+                .description("버퍼가 가득 차 버려진 조회수 증가분")
+                .register(registry);
+    }
+}
@@ -0,0 +1,216 @@
+package com.todolist.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todolist.entity.enums.TodoDetailStatus;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import com.todolist.exception.BadRequestException;
+import com.todolist.service.dto.request.TodoImportRequest;
+import com.todolist.service.dto.response.TodoImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 다른 도구에서 옮겨오는 투두를 대량으로 저장하는 서비스
+ * - 요청 본문(JSON 배열 또는 NDJSON)을 한 항목씩 읽으며 검증하고, CHUNK_SIZE개씩 모아 JDBC 배치로 INSERT 한다.
+ * - 엔티티 생성, 영속성 컨텍스트 관리 비용 없이 JdbcTemplate으로 직접 INSERT 하고, ID는 SnowflakeIdGenerator로 미리 발급한다.
+ * - 값이 잘못된 항목은 건너뛰고 사유를 기록하지만, JSON 문법이 깨져 더 읽을 수 없으면 중단한다.
+ * - 청크마다 별도 트랜잭션으로 커밋하므로, 중간에 본문을 읽을 수 없게 되면 앞선 청크까지만 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_DETAIL_COUNT = 3;
+    private static final int MAX_CONTENT_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String INSERT_TODO_SQL =
+            "INSERT INTO todo (id, member_id, todo_list, status, hit, detail_count) VALUES (?, ?, ?, ?, 0, ?)";
+    private static final String INSERT_DETAIL_SQL =
+            "INSERT INTO todo_detail (id, todo_id, detail_list, status) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+    private final TodoVersionTracker todoVersionTracker;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public TodoImportResponse importTodos(Long memberId, InputStream body) {
+
+        long startedAt = System.nanoTime();
+        List<TodoImportRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String> errors = new ArrayList<>();
+        long index = 0;
+        long importedTodos = 0;
+        long importedDetails = 0;
+        long rejected = 0;
+
+        // 루트가 배열이면 원소를, 아니면 공백/줄바꿈으로 구분된 값(NDJSON)을 차례로 읽음 -> 본문 전체를 메모리에 올리지 않음
+        try (MappingIterator<TodoImportRequest> items = objectMapper.readerFor(TodoImportRequest.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                TodoImportRequest item;
+                try {
+                    item = items.nextValue();
+                } catch (JsonMappingException e) {
+                    // JSON 문법은 맞지만 항목으로 바꿀 수 없는 값(알 수 없는 상태 등)은 그 항목만 건너뛰고 다음 항목부터 계속 읽음
+                    index++;
+                    rejected++;
+                    addError(errors, index, "형식이 올바르지 않습니다." + fieldOf(e));
+                    continue;
+                }
+                index++;
+
+                String error = validate(item);
+                if (error != null) {
+                    rejected++;
+                    addError(errors, index, error);
+                    continue;
+                }
+
+                chunk.add(item);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importedDetails += insertChunk(memberId, chunk);
+                    importedTodos += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException((index + 1) + "번째 항목을 읽을 수 없습니다. 앞선 투두 " + importedTodos + "개는 저장되었습니다.");
+        }
+
+        if (!chunk.isEmpty()) {
+            importedDetails += insertChunk(memberId, chunk);
+            importedTodos += chunk.size();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        TodoImportResponse response = TodoImportResponse.of(importedTodos, importedDetails, rejected, errors, elapsedMillis);
+        log.info("투두 가져오기 완료 - memberId: {}, todos: {}, details: {}, rejected: {}, {}ms ({} rows/s)",
+                memberId, importedTodos, importedDetails, rejected, elapsedMillis, response.rowsPerSecond());
+
+        return response;
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장하고, 저장한 세부 할 일 수를 반환
+     */
+    private int insertChunk(Long memberId, List<TodoImportRequest> chunk) {
+        return transactionOperations.execute(status -> {
+            List<Long> todoIds = insertTodos(memberId, chunk);
+            int details = insertDetails(chunk, todoIds);
+            todoVersionTracker.increase(memberId);
+            return details;
+        });
+    }
+
+    private List<Long> insertTodos(Long memberId, List<TodoImportRequest> chunk) {
+
+        List<Long> todoIds = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            todoIds.add(idGenerator.nextId());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TODO_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TodoImportRequest item = chunk.get(i);
+                ps.setLong(1, todoIds.get(i));
+                ps.setLong(2, memberId);
+                ps.setString(3, item.todo());
+                ps.setString(4, statusOf(item).name());
+                ps.setInt(5, detailsOf(item).size());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+
+        return todoIds;
+    }
+
+    private int insertDetails(List<TodoImportRequest> chunk, List<Long> todoIds) {
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            for (String detail : detailsOf(chunk.get(i))) {
+                rows.add(new Object[]{idGenerator.nextId(), todoIds.get(i), detail, TodoDetailStatus.NOT_STARTED.name()});
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DETAIL_SQL, rows);
+        }
+
+        return rows.size();
+    }
+
+    private static void addError(List<String> errors, long index, String error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(index + "번째 항목: " + error);
+        }
+    }
+
+    private static String fieldOf(JsonMappingException e) {
+        return e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .reduce((parent, child) -> parent + "." + child)
+                .map(field -> " (" + field + ")")
+                .orElse("");
+    }
+
+    /**
+     * 검증 실패 사유를 반환 (통과하면 null)
+     */
+    private static String validate(TodoImportRequest item) {
+
+        if (item == null || item.todo() == null || item.todo().isBlank()) {
+            return "해야 할 일이 비어 있습니다.";
+        }
+        if (item.todo().length() > MAX_CONTENT_LENGTH) {
+            return "해야 할 일은 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.";
+        }
+
+        List<String> details = detailsOf(item);
+        if (details.size() > MAX_DETAIL_COUNT) {
+            return "세부 할 일은 최대 " + MAX_DETAIL_COUNT + "개까지만 추가할 수 있습니다.";
+        }
+        for (String detail : details) {
+            if (detail == null || detail.isBlank()) {
+                return "세부 할 일이 비어 있습니다.";
+            }
+            if (detail.length() > MAX_CONTENT_LENGTH) {
+                return "세부 할 일은 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.";
+            }
+        }
+
+        return null;
+    }
+
+    private static TodoStatus statusOf(TodoImportRequest item) {
+        return item.status() != null ? item.status() : TodoStatus.NOT_STARTED;
+    }
+
+    private static List<String> detailsOf(TodoImportRequest item) {
+        return item.details() != null ? item.details() : List.of();
+    }
+}
@@ -0,0 +1,83 @@
+package com.todolist.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todolist.entity.enums.TodoStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 투두 목록 응답 캐시
+ * - 키: (회원 ID, 회원의 목록 버전, 페이지 또는 커서 조건)
+ * - 투두가 바뀌면 TodoVersionTracker가 해당 회원의 버전만 올리므로, 다른 회원의 캐시는 그대로 유지된다.
+ * - 이전 버전의 항목은 조회되지 않다가 크기 제한이나 TTL로 제거된다.
+ * - 조회수는 TodoHitCounter가 버전과 무관하게 반영하므로 최대 TTL만큼 늦게 보일 수 있다.
+ */
+@Component
+public class TodoListCache implements MeterBinder {
+
+    private final TodoVersionTracker todoVersionTracker;
+    private final boolean enabled;
+    private final Cache<Key, Object> cache;
+
+    public TodoListCache(TodoVersionTracker todoVersionTracker,
+                         @Value("${todo.list-cache.enabled:true}") boolean enabled,
+                         @Value("${todo.list-cache.max-size:10000}") long maxSize,
+                         @Value("${todo.list-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.todoVersionTracker = todoVersionTracker;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader로 조회해서 저장
+     * - 버전은 DB 조회보다 먼저 읽으므로, 조회 도중 커밋된 변경이 있어도 이미 지나간 버전에 저장될 뿐이다.
+     * @param query 페이지 번호, 커서, 사이즈 등 같은 회원 안에서 목록을 구분하는 조건
+     */
+    public <T> T get(Long memberId, String query, Supplier<T> loader) {
+        return get(memberId, todoVersionTracker.current(memberId), query, loader);
+    }
+
+    /**
+     * 트랜잭션 안에서 다른 쿼리를 먼저 실행하는 경우, 그 쿼리보다 먼저 읽어둔 버전으로 조회
+     * - REPEATABLE READ에서는 첫 쿼리 시점의 스냅샷을 계속 읽으므로, 그 뒤에 버전을 읽으면 이전 스냅샷이 새 버전에 저장될 수 있음
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long memberId, long version, String query, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(memberId, version, query);
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    public static String pageQuery(int pageNum) {
+        return "page:" + pageNum;
+    }
+
+    public static String cursorQuery(TodoStatus status, Long cursorId, int size) {
+        return "cursor:" + status + ":" + cursorId + ":" + size;
+    }
+
+    /**
+     * cache.gets{result=hit|miss}, cache.evictions 등을 /actuator/metrics 로 노출
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "todo.list");
+    }
+
+    private record Key(Long memberId, long version, String query) {
+    }
+}
@@ -1,25 +1,42 @@
 package com.todolist.service;
 
-import com.todolist.entity.Member;
 import com.todolist.entity.Todo;
 import com.todolist.entity.enums.TodoStatus;
+import com.todolist.exception.BadRequestException;
 import com.todolist.exception.ForbiddenAccessException;
 import com.todolist.exception.InvalidDeleteException;
 import com.todolist.exception.NotFoundException;
+import com.todolist.repository.MemberRepository;
+import com.todolist.repository.TodoDetailRepository;
 import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.TodoOwnerRow;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.repository.dto.TodoViewCursorSlice;
+import com.todolist.service.cursor.CursorCodec;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.request.TodoStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoStatusUpdateRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
+import com.todolist.service.dto.response.StatusUpdateResultResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import com.todolist.service.dto.response.TodoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,87 +44,212 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int DELETE_CHUNK_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final TodoRepository todoRepository;
+    private final MemberRepository memberRepository;
+    private final TodoDetailRepository todoDetailRepository;
+    private final TodoListCache todoListCache;
+    private final TodoVersionTracker todoVersionTracker;
+    private final TransactionOperations transactionOperations;
+    private final TimelineFanoutWorker timelineFanoutWorker;
 
     @Transactional
-    public TodoResponse createTodo(Member member, TodoRequest request) {
+    public TodoResponse createTodo(Long memberId, TodoRequest request) {
 
+        // 인증된 회원이므로 존재가 보장됨 -> 조회 없이 프록시로 FK만 연결
         Todo todo = Todo.builder()
-                .member(member)
+                .member(memberRepository.getReferenceById(memberId))
                 .todoList(request.todo())
                 .status(TodoStatus.NOT_STARTED)
                 .build();
         todoRepository.save(todo);
+        todoVersionTracker.increase(memberId);
+        timelineFanoutWorker.todoCreated(todo.getId(), memberId);
 
         return TodoResponse.from(todo);
     }
 
-    public TodoListResponse readTodoList(Member member, int pageNum) {
+    public TodoListResponse readTodoList(Long memberId, int pageNum) {
 
         /**
          * 요구사항
          * - 페이지네이션을 통해 한번에 10개씩 보여진다.
          * - 조회 시 세부 할 일도 함께 조회된다.
          */
-        Pageable pageable = PageRequest.of(pageNum, 10);
-        Page<Todo> todos = todoRepository.findByMemberId(member.getId(), pageable);
+        return todoListCache.get(memberId, TodoListCache.pageQuery(pageNum), () -> {
+            Pageable pageable = PageRequest.of(pageNum, 10);
+            Slice<TodoView> todos = todoRepository.findViewSliceByMemberId(memberId, pageable);
 
-        return TodoListResponse.from(todos);
+            return TodoListResponse.from(todos);
+        });
     }
 
-    @Transactional
-    public TodoResponse updateTodoStatus(Member member, Long todoId, TodoStatusUpdateRequest request) {
+    public TodoCursorListResponse readTodoListByCursor(Long memberId, TodoStatus status, String cursor, int size) {
 
-        Todo todo = findTodo(todoId);
-        verifyTodoOwner(member, todo);
+        /**
+         * 커서 기반 조회
+         * - 최신순으로 커서(마지막으로 받은 투두) 이후의 투두를 size개 조회한다.
+         * - status를 지정하면 해당 상태의 투두만 조회한다.
+         */
+        verifyPageSize(size);
+        Long cursorId = CursorCodec.decode(cursor);
 
-        todo.updateStatus(request.status());
+        return todoListCache.get(memberId, TodoListCache.cursorQuery(status, cursorId, size), () -> {
+            TodoViewCursorSlice todos = todoRepository.findViewSliceByMemberId(memberId, status, cursorId, size);
 
-        return TodoResponse.from(todo);
+            return TodoCursorListResponse.from(todos);
+        });
+    }
+
+    /**
+     * 투두 목록의 ETag
+     * - DB를 조회하지 않으므로 목록이 바뀌지 않았으면 조회 쿼리 없이 304로 응답할 수 있다.
+     */
+    public String getTodoListETag(Long memberId) {
+        return todoVersionTracker.eTag(memberId);
     }
 
     @Transactional
-    public void deleteTodo(Member member, List<Long> todoIds) {
+    public TodoResponse updateTodoStatus(Long memberId, Long todoId, TodoStatusUpdateRequest request) {
+
+        /**
+         * 소유자 조건을 건 UPDATE 한 번으로 변경
+         * - 변경된 행이 없을 때만 존재 여부를 확인해 NotFound / Forbidden 구분
+         */
+        int updated = todoRepository.updateStatusByIdAndMemberId(todoId, memberId, request.status());
+        if (updated == 0) {
+            throw todoRepository.existsById(todoId)
+                    ? new ForbiddenAccessException("해당 목록에 접근 권한이 없습니다: todo_id = " + todoId)
+                    : new NotFoundException("해당 TODO를 찾을 수 없습니다: todo_id = " + todoId);
+        }
+        todoVersionTracker.increase(memberId);
+
+        // MySQL은 UPDATE ... RETURNING이 없으므로 응답에 필요한 내용만 PK로 조회
+        return TodoResponse.of(todoId, todoRepository.findTodoListById(todoId), request.status());
+    }
+
+    @Transactional
+    public StatusBatchUpdateResponse updateTodoStatuses(Long memberId, List<TodoStatusBatchUpdateRequest> requests) {
+
+        /**
+         * 여러 투두의 상태를 한 트랜잭션에서 변경
+         * 1. 소유자를 IN 쿼리 한 번으로 확인
+         * 2. 본인 투두를 상태별로 묶어서 상태마다 UPDATE 한 번 (최대 상태 종류 수만큼)
+         * - 없는 투두, 다른 회원의 투두는 건너뛰고 항목별 결과로 알려줌
+         */
+        verifyBatchSize(requests.size());
+
+        // 같은 ID가 여러 번 오면 마지막 상태를 적용
+        Map<Long, TodoStatus> statusById = new LinkedHashMap<>();
+        for (TodoStatusBatchUpdateRequest request : requests) {
+            if (request.id() == null || request.status() == null) {
+                throw new BadRequestException("변경할 TODO ID와 상태는 필수입니다.");
+            }
+            statusById.put(request.id(), request.status());
+        }
+
+        Map<Long, Long> ownerById = todoRepository.findOwnerRowsByIdIn(statusById.keySet()).stream()
+                .collect(Collectors.toMap(TodoOwnerRow::id, TodoOwnerRow::memberId));
+
+        Map<TodoStatus, List<Long>> idsByStatus = new EnumMap<>(TodoStatus.class);
+        List<StatusUpdateResultResponse> results = new ArrayList<>(statusById.size());
+
+        statusById.forEach((todoId, status) -> {
+            Long ownerId = ownerById.get(todoId);
+            if (ownerId == null) {
+                results.add(StatusUpdateResultResponse.failed(todoId, StatusUpdateResultResponse.Result.NOT_FOUND));
+            } else if (!ownerId.equals(memberId)) {
+                results.add(StatusUpdateResultResponse.failed(todoId, StatusUpdateResultResponse.Result.FORBIDDEN));
+            } else {
+                idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(todoId);
+                results.add(StatusUpdateResultResponse.updated(todoId, status.getKoreanStatus()));
+            }
+        });
+
+        idsByStatus.forEach((status, ids) -> todoRepository.updateStatusByIdInAndMemberId(ids, memberId, status));
+        if (!idsByStatus.isEmpty()) {
+            todoVersionTracker.increase(memberId);
+        }
+
+        return StatusBatchUpdateResponse.from(results);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteTodo(Long memberId, List<Long> todoIds) {
 
         /**
          * 요구사항
          * - 사용자는 투두를 완료 시 개별로 삭제할 수 있다.
          * - 사용자는 여러 개의 투두를 한 번에 선택하여 삭제할 수 있다.
          * - 상위 투두를 삭제할 시 하위 할 일과 함께 삭제된다.
+         *
+         * 1. 모든 투두의 존재, 소유자, 완료 여부를 먼저 확인 (청크당 쿼리 1번) -> 하나라도 실패하면 아무것도 지우지 않음
+         * 2. 청크마다 별도 트랜잭션으로 세부 할 일 DELETE 1번, 투두 DELETE 1번, 타임라인 항목 DELETE 1번
+         *    -> ID가 아주 많아도 한 트랜잭션이 락을 오래 잡지 않음
          */
-        List<Todo> todoList = todoRepository.findAllById(todoIds);
+        List<List<Long>> chunks = chunk(todoIds);
+
+        for (List<Long> ids : chunks) {
+            List<TodoOwnerRow> rows = todoRepository.findOwnerRowsByIdIn(ids);
+
+            // 요청한 개수와 조회한 개수가 일치하는지 확인
+            if (rows.size() != ids.size()) {
+                throw new NotFoundException("존재하지 않는 TODO가 있습니다.");
+            }
 
-        // 요청한 개수와 조회한 개수가 일치하는지 확인
-        if (todoList.size() != todoIds.size()) {
-            throw new NotFoundException("존재하지 않는 TODO가 있습니다.");
+            for (TodoOwnerRow row : rows) {
+                verifyTodoOwner(memberId, row);
+                verifyTodoIsCompleted(row);
+            }
         }
 
-        for (Todo todo : todoList) {
-            Todo findTodo = findTodo(todo.getId());
-            verifyTodoOwner(member, findTodo);
-            verifyTodoIsCompleted(findTodo);
+        for (List<Long> ids : chunks) {
+            transactionOperations.executeWithoutResult(status -> {
+                todoDetailRepository.deleteByTodoIdInAndMemberIdAndStatus(ids, memberId, TodoStatus.COMPLETED);
+                todoRepository.deleteByIdInAndMemberIdAndStatus(ids, memberId, TodoStatus.COMPLETED);
+                timelineFanoutWorker.todosDeleted(ids);
+                todoVersionTracker.increase(memberId);
+            });
+        }
+    }
 
-            todoRepository.delete(findTodo);
+    // 해당 사용자의 투두인지 확인하는 메소드
+    private void verifyTodoOwner(Long memberId, TodoOwnerRow todo) {
+        if (!todo.memberId().equals(memberId)) {
+            throw new ForbiddenAccessException("해당 목록에 접근 권한이 없습니다: todo_id = " + todo.id());
         }
     }
 
-    // 투두 존재 여부 확인하는 메소드
-    private Todo findTodo(Long todoId) {
-        return todoRepository.findById(todoId)
-                .orElseThrow(() -> new NotFoundException("해당 TODO를 찾을 수 없습니다: todo_id = " + todoId));
+    // 페이지 사이즈가 허용 범위인지 확인하는 메소드
+    private void verifyPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지 사이즈는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: size = " + size);
+        }
     }
 
-    // 해당 사용자의 투두인지 확인하는 메소드
-    private void verifyTodoOwner(Member member, Todo todo) {
-        if (!todo.getMember().getId().equals(member.getId())) {
-            throw new ForbiddenAccessException("해당 목록에 접근 권한이 없습니다: todo_id = " + todo.getId());
+    // 한 번에 변경할 개수가 허용 범위인지 확인하는 메소드
+    private void verifyBatchSize(int size) {
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            throw new BadRequestException("한 번에 변경할 수 있는 TODO는 1 ~ " + MAX_BATCH_SIZE + "개입니다: size = " + size);
         }
     }
 
     // 완료된 투두인지 확인하는 메소드
-    private void verifyTodoIsCompleted(Todo todo) {
-        if (todo.getStatus() != TodoStatus.COMPLETED) {
-            throw new InvalidDeleteException("완료된 TODO만 삭제 가능합니다: todo_id = " + todo.getId() + ", status = " + todo.getStatus());
+    private void verifyTodoIsCompleted(TodoOwnerRow todo) {
+        if (todo.status() != TodoStatus.COMPLETED) {
+            throw new InvalidDeleteException("완료된 TODO만 삭제 가능합니다: todo_id = " + todo.id() + ", status = " + todo.status());
+        }
+    }
+
+    // 한 번에 처리할 ID 개수만큼 나누는 메소드
+    private static List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
         }
+        return chunks;
     }
 }
@@ -0,0 +1,69 @@
+package com.todolist.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 투두 목록 버전
+ * - 투두, 세부 할 일이 바뀔 때마다 해당 회원의 버전을 한 번도 쓰지 않은 새 번호로 바꾼다. (전체 회원이 공유하는 단조 증가 번호)
+ * - 목록 캐시 키에 버전을 포함시키면, 버전이 바뀌는 순간 이전 캐시는 더 이상 조회되지 않는다.
+ * - 같은 버전으로 ETag를 만들어, 목록이 바뀌지 않았으면 304로 응답한다.
+ * - 회원 수만큼 늘어나지 않도록 최근 회원의 버전만 보관하고, 밀려난 회원은 다음 조회 때 새 번호를 받는다.
+ *   (새 번호는 이전에 나간 적이 없으므로 예전 ETag나 캐시와 겹치지 않고, 한 번 캐시를 다시 채우는 비용만 듦)
+ */
+@Component
+public class TodoVersionTracker {
+
+    // 버전은 메모리에만 있으므로 재시작 후 같은 버전 번호가 다시 나와도 ETag가 겹치지 않도록 기동 시각을 포함
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Long> versions;
+
+    public TodoVersionTracker(@Value("${todo.version.max-members:100000}") long maxMembers) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .build();
+    }
+
+    public long current(Long memberId) {
+        return versions.get(memberId, id -> sequence.incrementAndGet());
+    }
+
+    /**
+     * 회원의 투두 목록에 대한 weak ETag
+     * - 조회수는 버전과 관계없이 바뀌므로 본문이 바이트 단위로 같다고 보장할 수 없어 weak(W/)로 표시
+     * - 같은 URL이라도 로그인한 회원마다 내용이 다르므로 회원 ID를 포함
+     */
+    public String eTag(Long memberId) {
+        return "W/\"" + Long.toString(epoch, 36) + "-" + memberId + "-" + current(memberId) + "\"";
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 버전을 올린다.
+     * - 커밋 전에 올리면 그 사이 다른 요청이 커밋 전 데이터를 새 버전으로 캐시할 수 있음
+     * - 롤백되면 데이터가 바뀌지 않았으므로 버전도 그대로 둔다.
+     */
+    public void increase(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(memberId);
+            }
+        });
+    }
+
+    private void bump(Long memberId) {
+        versions.asMap().compute(memberId, (id, version) -> sequence.incrementAndGet());
+    }
+}
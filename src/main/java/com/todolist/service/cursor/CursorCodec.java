@@ -0,0 +1,37 @@
+package com.todolist.service.cursor;
+
+import com.todolist.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 커서 인코딩/디코딩
+ * - 클라이언트에는 마지막으로 내려준 ID를 Base64 URL 문자열로 감싼 불투명한 값만 노출
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Long lastId) {
+        return ENCODER.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 첫 페이지를 의미하는 null
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
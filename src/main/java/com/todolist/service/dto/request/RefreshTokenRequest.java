@@ -0,0 +1,11 @@
+package com.todolist.service.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "토큰 재발급 요청 DTO")
+public record RefreshTokenRequest(
+
+        @Schema(description = "로그인 또는 재발급 때 받은 refresh 토큰", example = "{refreshToken}")
+        String refreshToken
+) {
+}
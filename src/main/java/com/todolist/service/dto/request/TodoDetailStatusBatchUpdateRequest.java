@@ -0,0 +1,15 @@
+package com.todolist.service.dto.request;
+
+import com.todolist.entity.enums.TodoDetailStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "세부 투두 상태 일괄 업데이트 요청 DTO (목록의 항목 1개)")
+public record TodoDetailStatusBatchUpdateRequest(
+
+        @Schema(description = "세부 투두 ID", example = "1")
+        Long id,
+
+        @Schema(description = "세부 투두 상태", example = "COMPLETED")
+        TodoDetailStatus status
+) {
+}
@@ -0,0 +1,20 @@
+package com.todolist.service.dto.request;
+
+import com.todolist.entity.enums.TodoStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "투두 가져오기 요청 DTO (JSON 배열 또는 NDJSON의 항목 1개)")
+public record TodoImportRequest(
+
+        @Schema(description = "해야 할 일", example = "Leets 마지막 과제 하기")
+        String todo,
+
+        @Schema(description = "투두 상태 (생략 시 NOT_STARTED)", example = "IN_PROGRESS")
+        TodoStatus status,
+
+        @Schema(description = "세부 할 일 목록 (최대 3개)", example = "[\"자료 조사\", \"초안 작성\"]")
+        List<String> details
+) {
+}
@@ -0,0 +1,21 @@
+package com.todolist.service.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.todolist.repository.dto.TodoView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "피드 항목 1개에 해당하는 응답 DTO")
+public record FeedItemResponse(
+
+        @Schema(description = "작성자(팔로우 대상) ID", example = "2", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long authorId,
+
+        @Schema(description = "투두(세부 할 일 포함)")
+        TodoWithDetailResponse todo
+) {
+    public static FeedItemResponse of(Long authorId, TodoView todo) {
+        return new FeedItemResponse(authorId, TodoWithDetailResponse.from(todo));
+    }
+}
@@ -0,0 +1,33 @@
+package com.todolist.service.dto.response;
+
+import com.todolist.service.cursor.CursorCodec;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "피드(팔로우한 사람들의 투두) 커서 기반 응답 DTO")
+public record FeedResponse(
+
+        @Schema(description = "최신순 피드 항목 목록")
+        List<FeedItemResponse> items,
+
+        @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)", example = "MTIz")
+        String nextCursor,
+
+        @Schema(description = "페이지 사이즈", example = "20")
+        int pageSize,
+
+        @Schema(description = "마지막 페이지(true/false)", example = "true")
+        boolean isLast
+) {
+    /**
+     * @param nextCursorId 이번 페이지에서 마지막으로 읽은 투두 ID (마지막 페이지면 null)
+     *                     삭제된 투두가 빠져 items가 비어 있어도 다음 페이지는 이 위치부터 이어진다.
+     */
+    public static FeedResponse of(List<FeedItemResponse> items, int pageSize, Long nextCursorId) {
+
+        String nextCursor = nextCursorId != null ? CursorCodec.encode(nextCursorId) : null;
+
+        return new FeedResponse(items, nextCursor, pageSize, nextCursorId == null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.todolist.service.dto.response;
+
+import com.todolist.service.cursor.CursorCodec;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "팔로잉, 팔로워 목록 커서 기반 응답 DTO")
+public record FollowCursorListResponse(
+
+        @Schema(description = "회원 ID 오름차순 목록")
+        List<FollowingResponse> members,
+
+        @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)", example = "MTIz")
+        String nextCursor,
+
+        @Schema(description = "페이지 사이즈", example = "20")
+        int pageSize,
+
+        @Schema(description = "마지막 페이지(true/false)", example = "true")
+        boolean isLast
+) {
+    public static FollowCursorListResponse of(List<FollowingResponse> members, int pageSize, boolean hasNext) {
+
+        String nextCursor = hasNext ? CursorCodec.encode(members.getLast().id()) : null;
+
+        return new FollowCursorListResponse(members, nextCursor, pageSize, !hasNext);
+    }
+}
@@ -1,7 +1,7 @@
 package com.todolist.service.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -20,7 +20,7 @@ public record FollowingListResponse(
         @Schema(description = "마지막 페이지(true/false)", example = "true")
         boolean isLast
 ) {
-    public static FollowingListResponse from(Page<FollowingResponse> followings) {
+    public static FollowingListResponse from(Slice<FollowingResponse> followings) {
         return new FollowingListResponse(followings.getContent(), followings.getNumber(), followings.getSize(), followings.isLast());
     }
 }
@@ -1,18 +1,27 @@
 package com.todolist.service.dto.response;
 
-import com.todolist.entity.Member;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.todolist.repository.dto.FollowMemberRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 
-@Schema(description = "팔로잉 하는 유저 1명에 해당하는 응답 DTO")
+@Schema(description = "팔로잉 하는 유저(또는 팔로워) 1명에 해당하는 응답 DTO")
 public record FollowingResponse(
 
-        @Schema(description = "회원 ID", example = "2")
+        @Schema(description = "회원 ID", example = "2", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "닉네임", example = "김가천")
-        String nickname
+        String nickname,
+
+        @Schema(description = "팔로워 수", example = "120")
+        Long followerCount,
+
+        @Schema(description = "팔로잉 수", example = "35")
+        Long followingCount
 ) {
-    public static FollowingResponse from(Member member) {
-        return new FollowingResponse(member.getId(), member.getNickname());
+    public static FollowingResponse from(FollowMemberRow row) {
+        return new FollowingResponse(row.id(), row.nickname(), row.followerCount(), row.followingCount());
     }
 }
@@ -0,0 +1,27 @@
+package com.todolist.service.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.todolist.entity.Member;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "회원 프로필 응답 DTO")
+public record MemberProfileResponse(
+
+        @Schema(description = "회원 ID", example = "2", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long id,
+
+        @Schema(description = "닉네임", example = "김가천")
+        String nickname,
+
+        @Schema(description = "팔로워 수", example = "120")
+        Long followerCount,
+
+        @Schema(description = "팔로잉 수", example = "35")
+        Long followingCount
+) {
+    public static MemberProfileResponse from(Member member) {
+        return new MemberProfileResponse(member.getId(), member.getNickname(), member.getFollowerCount(), member.getFollowingCount());
+    }
+}
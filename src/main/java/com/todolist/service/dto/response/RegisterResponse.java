@@ -1,12 +1,15 @@
 package com.todolist.service.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.todolist.entity.Member;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "회원가입 응답 DTO")
 public record RegisterResponse(
 
-        @Schema(description = "회원 고유 ID", example = "1")
+        @Schema(description = "회원 고유 ID", example = "1", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "가입한 이메일", example = "member@gachon.ac.kr")
@@ -0,0 +1,24 @@
+package com.todolist.service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "일괄 상태 변경 응답 DTO")
+public record StatusBatchUpdateResponse(
+
+        @Schema(description = "변경된 항목 수", example = "2")
+        int updatedCount,
+
+        @Schema(description = "요청 순서대로의 항목별 처리 결과")
+        List<StatusUpdateResultResponse> results
+) {
+    public static StatusBatchUpdateResponse from(List<StatusUpdateResultResponse> results) {
+
+        int updatedCount = (int) results.stream()
+                .filter(result -> result.result() == StatusUpdateResultResponse.Result.UPDATED)
+                .count();
+
+        return new StatusBatchUpdateResponse(updatedCount, results);
+    }
+}
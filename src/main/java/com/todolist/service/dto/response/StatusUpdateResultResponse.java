@@ -0,0 +1,33 @@
+package com.todolist.service.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 상태 변경에서 항목 1개의 처리 결과 DTO")
+public record StatusUpdateResultResponse(
+
+        @Schema(description = "투두 또는 세부 투두 ID", example = "1", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long id,
+
+        @Schema(description = "처리 결과", example = "UPDATED")
+        Result result,
+
+        @Schema(description = "변경된 상태 (변경되지 않았으면 null)", example = "진행 완료")
+        String status
+) {
+    public enum Result {
+        UPDATED,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    public static StatusUpdateResultResponse updated(Long id, String status) {
+        return new StatusUpdateResultResponse(id, Result.UPDATED, status);
+    }
+
+    public static StatusUpdateResultResponse failed(Long id, Result result) {
+        return new StatusUpdateResultResponse(id, result, null);
+    }
+}
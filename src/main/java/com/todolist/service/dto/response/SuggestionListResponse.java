@@ -0,0 +1,16 @@
+package com.todolist.service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "팔로우 추천 목록 응답 DTO")
+public record SuggestionListResponse(
+
+        @Schema(description = "함께 아는 사람이 많은 순서의 추천 회원 목록")
+        List<SuggestionResponse> suggestions
+) {
+    public static SuggestionListResponse from(List<SuggestionResponse> suggestions) {
+        return new SuggestionListResponse(suggestions);
+    }
+}
@@ -0,0 +1,27 @@
+package com.todolist.service.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.todolist.entity.Member;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "팔로우 추천 회원 1명에 해당하는 응답 DTO")
+public record SuggestionResponse(
+
+        @Schema(description = "회원 ID", example = "2", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long id,
+
+        @Schema(description = "닉네임", example = "김가천")
+        String nickname,
+
+        @Schema(description = "팔로워 수", example = "120")
+        Long followerCount,
+
+        @Schema(description = "내가 팔로우한 사람 중 이 회원을 팔로우하는 사람 수", example = "3")
+        int mutualCount
+) {
+    public static SuggestionResponse of(Member member, int mutualCount) {
+        return new SuggestionResponse(member.getId(), member.getNickname(), member.getFollowerCount(), mutualCount);
+    }
+}
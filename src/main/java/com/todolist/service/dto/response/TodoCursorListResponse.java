@@ -0,0 +1,34 @@
+package com.todolist.service.dto.response;
+
+import com.todolist.repository.dto.TodoViewCursorSlice;
+import com.todolist.service.cursor.CursorCodec;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "투두 목록 커서 기반 응답 DTO")
+public record TodoCursorListResponse(
+
+        @Schema(description = "투두(세부 할 일 포함) 목록")
+        List<TodoWithDetailResponse> todos,
+
+        @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)", example = "MTIz")
+        String nextCursor,
+
+        @Schema(description = "페이지 사이즈", example = "10")
+        int pageSize,
+
+        @Schema(description = "마지막 페이지(true/false)", example = "true")
+        boolean isLast
+) {
+    public static TodoCursorListResponse from(TodoViewCursorSlice todos) {
+
+        List<TodoWithDetailResponse> list = todos.content().stream()
+                .map(TodoWithDetailResponse::from)
+                .toList();
+
+        String nextCursor = todos.hasNext() ? CursorCodec.encode(todos.nextCursorId()) : null;
+
+        return new TodoCursorListResponse(list, nextCursor, todos.size(), !todos.hasNext());
+    }
+}
@@ -1,15 +1,20 @@
 package com.todolist.service.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.todolist.entity.TodoDetail;
+import com.todolist.repository.dto.TodoDetailView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "세부 할 일 1개에 해당하는 응답 DTO")
 public record TodoDetailResponse(
 
-        @Schema(description = "부모 투두 ID", example = "1")
+        @Schema(description = "부모 투두 ID", example = "1", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long parentId,
 
-        @Schema(description = "세부 투두 ID", example = "1")
+        @Schema(description = "세부 투두 ID", example = "1", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "세부 투두", example = "Swagger 연동하기")
@@ -26,4 +31,13 @@ public record TodoDetailResponse(
                 todoDetail.getStatus().getKoreanStatus()
         );
     }
+
+    public static TodoDetailResponse from(TodoDetailView todoDetail) {
+        return new TodoDetailResponse(
+                todoDetail.parentId(),
+                todoDetail.id(),
+                todoDetail.detailList(),
+                todoDetail.status().getKoreanStatus()
+        );
+    }
 }
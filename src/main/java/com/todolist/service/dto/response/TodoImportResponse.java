@@ -0,0 +1,36 @@
+package com.todolist.service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "투두 가져오기 결과 응답 DTO")
+public record TodoImportResponse(
+
+        @Schema(description = "저장된 투두 수", example = "100000")
+        long importedTodos,
+
+        @Schema(description = "저장된 세부 할 일 수", example = "250000")
+        long importedDetails,
+
+        @Schema(description = "검증에 실패해 건너뛴 항목 수", example = "2")
+        long rejected,
+
+        @Schema(description = "건너뛴 항목의 사유 (앞쪽 일부만 포함)", example = "[\"3번째 항목: 세부 할 일은 최대 3개까지만 추가할 수 있습니다.\"]")
+        List<String> errors,
+
+        @Schema(description = "처리 시간(ms)", example = "4200")
+        long elapsedMillis,
+
+        @Schema(description = "초당 저장한 행 수 (투두 + 세부 할 일)", example = "83333")
+        long rowsPerSecond
+) {
+    public static TodoImportResponse of(long importedTodos, long importedDetails, long rejected,
+                                        List<String> errors, long elapsedMillis) {
+
+        long rows = importedTodos + importedDetails;
+        long rowsPerSecond = rows * 1000 / Math.max(elapsedMillis, 1);
+
+        return new TodoImportResponse(importedTodos, importedDetails, rejected, errors, elapsedMillis, rowsPerSecond);
+    }
+}
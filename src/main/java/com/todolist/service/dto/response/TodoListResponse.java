@@ -1,8 +1,8 @@
 package com.todolist.service.dto.response;
 
-import com.todolist.entity.Todo;
+import com.todolist.repository.dto.TodoView;
 import io.swagger.v3.oas.annotations.media.Schema;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -21,7 +21,7 @@ public record TodoListResponse(
         @Schema(description = "마지막 페이지(true/false)", example = "true")
         boolean isLast
 ) {
-    public static TodoListResponse from(Page<Todo> todos) {
+    public static TodoListResponse from(Slice<TodoView> todos) {
 
         List<TodoWithDetailResponse> list = todos.getContent().stream()
                 .map(TodoWithDetailResponse::from)
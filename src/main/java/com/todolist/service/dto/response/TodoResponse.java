@@ -1,12 +1,16 @@
 package com.todolist.service.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.todolist.entity.Todo;
+import com.todolist.entity.enums.TodoStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "투두 생성 응답 DTO")
 public record TodoResponse(
 
-        @Schema(description = "투두 ID", example = "1")
+        @Schema(description = "투두 ID", example = "1", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "해야 할 일", example = "Leets 마지막 과제 하기")
@@ -18,4 +22,8 @@ public record TodoResponse(
     public static TodoResponse from(Todo todo) {
         return new TodoResponse(todo.getId(), todo.getTodoList(), todo.getStatus().getKoreanStatus());
     }
+
+    public static TodoResponse of(Long id, String todo, TodoStatus status) {
+        return new TodoResponse(id, todo, status.getKoreanStatus());
+    }
 }
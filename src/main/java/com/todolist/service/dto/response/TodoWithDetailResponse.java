@@ -1,6 +1,8 @@
 package com.todolist.service.dto.response;
 
-import com.todolist.entity.Todo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.todolist.repository.dto.TodoView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -11,7 +13,8 @@ public record TodoWithDetailResponse(
         @Schema(description = "조회수", example = "5")
         Long hit,
 
-        @Schema(description = "(부모)투두 ID", example = "1")
+        @Schema(description = "(부모)투두 ID", example = "1", type = "string")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "해야 할 일", example = "Leets 마지막 과제 하기")
@@ -23,12 +26,12 @@ public record TodoWithDetailResponse(
         @Schema(description = "세부 할 일 목록")
         List<TodoDetailResponse> detailList
 ) {
-    public static TodoWithDetailResponse from(Todo todo) {
+    public static TodoWithDetailResponse from(TodoView todo) {
 
-        List<TodoDetailResponse> list = todo.getTodoDetail().stream()
+        List<TodoDetailResponse> list = todo.details().stream()
                 .map(TodoDetailResponse::from)
                 .toList();
 
-        return new TodoWithDetailResponse(todo.getHit(), todo.getId(), todo.getTodoList(), todo.getStatus().getKoreanStatus(), list);
+        return new TodoWithDetailResponse(todo.hit(), todo.id(), todo.todoList(), todo.status().getKoreanStatus(), list);
     }
 }
@@ -0,0 +1,150 @@
+package com.todolist.auth.jwt;
+
+import com.todolist.auth.jwt.TokenRevocationList.BloomFilter;
+import com.todolist.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.ResultSet;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private TokenRevocationList tokenRevocationList;
+    private JdbcTemplate jdbcTemplate;
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenRevocationList = new TokenRevocationList(
+                jdbcTemplate, revokedTokenRepository, TransactionOperations.withoutTransaction(), 100, 0.01);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 바로 폐기된 것으로 확인되고, jti가 없는 토큰은 폐기할 수 없다.")
+    void revoke() {
+        // given
+        Claims revoked = claims(1L, 60_000);
+        Claims other = claims(2L, 60_000);
+
+        // when
+        tokenRevocationList.revoke(revoked);
+        tokenRevocationList.revoke(Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + 60_000)));
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(revoked)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(other)).isFalse();
+        assertThat(tokenRevocationList.size()).isEqualTo(1);
+        verify(jdbcTemplate, times(1)).update(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("계열을 폐기하면 그 계열 ID(fid)를 가진 토큰은 jti와 관계없이 폐기된 것으로 확인된다.")
+    void revokeFamily() {
+        // given
+        Claims inFamily = claims(1L, 60_000);
+        inFamily.put(JwtTokenProvider.FAMILY_CLAIM, 10L);
+        Claims otherFamily = claims(2L, 60_000);
+        otherFamily.put(JwtTokenProvider.FAMILY_CLAIM, 11L);
+
+        // when
+        tokenRevocationList.revokeFamily(10L);
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(inFamily)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(otherFamily)).isFalse();
+        assertThat(tokenRevocationList.isRevoked(claims(3L, 60_000))).isFalse();
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(10L), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 폐기된 토큰을 다시 폐기해도 예외가 발생하지 않는다.")
+    void revokeTwice() {
+        // given
+        when(jdbcTemplate.update(anyString(), any(), any())).thenThrow(new DuplicateKeyException("duplicate"));
+
+        // when
+        tokenRevocationList.revoke(claims(1L, 60_000));
+
+        // then (다른 서버에서 폐기한 토큰은 다시 읽을 때 반영)
+        assertThat(tokenRevocationList.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 읽으면 다른 서버에서 폐기한 토큰이 반영되고 만료된 토큰은 빠진다.")
+    void reload() {
+        // given (이 서버에서 폐기한 토큰 중 하나는 이미 만료)
+        tokenRevocationList.revoke(claims(1L, 60_000));
+        tokenRevocationList.revoke(claims(2L, -1_000));
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(3L);
+            when(rs.getLong(2)).thenReturn(expiresAt);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), anyLong());
+
+        // when
+        tokenRevocationList.reload();
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(1L)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(2L)).isFalse();
+        assertThat(tokenRevocationList.isRevoked(3L)).isTrue();
+        verify(revokedTokenRepository, times(1)).deleteExpired(anyLong());
+    }
+
+    @Test
+    @DisplayName("Bloom 필터는 넣은 키를 놓치지 않고, 오탐률은 설정한 값 근처에 머문다.")
+    void bloomFilterFalsePositiveRate() {
+        // given (Snowflake ID처럼 연속으로 증가하는 키)
+        int capacity = 10_000;
+        BloomFilter bloomFilter = new BloomFilter(capacity, 0.01);
+        long base = 1L << 40;
+        for (long key = base; key < base + capacity; key++) {
+            bloomFilter.put(key);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long key = base + capacity; key < base + capacity + probes; key++) {
+            if (bloomFilter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (long key = base; key < base + capacity; key++) {
+            assertThat(bloomFilter.mightContain(key)).isTrue();
+        }
+        // m = -n * ln(0.01) / (ln 2)^2 = 95,851비트를 64비트 단위로 올림, k = m / n * ln 2 = 7
+        assertThat(bloomFilter.bitCount()).isEqualTo(95_872);
+        assertThat(bloomFilter.hashCount()).isEqualTo(7);
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private Claims claims(Long tokenId, long expiresInMillis) {
+        return Jwts.claims()
+                .setId(String.valueOf(tokenId))
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+}
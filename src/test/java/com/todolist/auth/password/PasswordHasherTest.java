@@ -0,0 +1,119 @@
+package com.todolist.auth.password;
+
+import com.todolist.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 결과는 전용 스레드에서 계산되어 그대로 반환된다.")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 10, 5_000);
+
+        // when
+        String encoded = passwordHasher.encode("password1234");
+
+        // then
+        assertThat(passwordHasher.matches("password1234", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("strength가 낮은 해시는 다시 해시할 대상이다.")
+    void upgradeEncoding() {
+        // given
+        String weak = new BCryptPasswordEncoder(4).encode("password1234");
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 10, 5_000);
+
+        // when & then
+        assertThat(passwordHasher.upgradeEncoding(weak)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password1234"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 503 예외가 발생한다.")
+    void rejectWhenSaturated() throws Exception {
+        // given (스레드 1개, 대기열 1개 -> 두 요청이 자리를 차지)
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        CountDownLatch started = new CountDownLatch(1);
+        when(blockingEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        passwordHasher = new PasswordHasher(blockingEncoder, 1, 1, 5_000);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        while (passwordHasher.queuedTasks() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> passwordHasher.encode("c"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("시간 안에 해시가 끝나지 않으면 503 예외가 발생한다.")
+    void timeout() {
+        // given
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        when(blockingEncoder.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        passwordHasher = new PasswordHasher(blockingEncoder, 1, 1, 100);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHasher.matches("a", "hash"));
+    }
+
+    @Test
+    @DisplayName("기다리다 시간이 지난 작업은 대기열에서 제거되어 다음 요청의 자리를 차지하지 않는다.")
+    void removeTimedOutTaskFromQueue() throws Exception {
+        // given (스레드 1개가 오래 걸리는 해시를 계산 중)
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        CountDownLatch started = new CountDownLatch(1);
+        when(blockingEncoder.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        passwordHasher = new PasswordHasher(blockingEncoder, 1, 1, 100);
+        CompletableFuture.runAsync(() -> passwordHasher.matches("a", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when (대기열에서 기다리다 시간 초과)
+        assertThrows(ServiceUnavailableException.class, () -> passwordHasher.matches("b", "hash"));
+
+        // then
+        assertThat(passwordHasher.queuedTasks()).isZero();
+    }
+}
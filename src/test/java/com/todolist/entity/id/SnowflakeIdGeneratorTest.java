@@ -0,0 +1,165 @@
+package com.todolist.entity.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("발급한 ID에는 발급 시각과 노드 ID가 담기고, 같은 밀리초 안에서는 시퀀스만 증가한다.")
+    void nextIdLayout() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> NOW, 1000);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(first)).isEqualTo(7);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("한 밀리초의 시퀀스를 모두 쓰면 다음 밀리초까지 기다렸다가 발급한다.")
+    void nextIdWaitsForNextMillisWhenSequenceExhausted() {
+        // given (4096개를 발급한 뒤에도 시계가 두 번 더 같은 밀리초를 가리킴)
+        AtomicLong calls = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0,
+                () -> calls.incrementAndGet() <= 4098 ? NOW : NOW + 1, 1000);
+
+        // when
+        long last = 0;
+        for (int i = 0; i < 4097; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+
+        // then
+        assertThat(SnowflakeIdGenerator.timestampOf(last)).isEqualTo(NOW + 1);
+        assertThat(calls.get()).isEqualTo(4099);
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위 안에서 뒤로 가면 마지막 시각을 이어서 쓰고, 범위를 넘으면 발급을 거부한다.")
+    void nextIdWithClockMovedBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get, 1000);
+        long before = generator.nextId();
+
+        // when
+        clock.set(NOW - 500);
+        long afterSmallSkew = generator.nextId();
+
+        // then
+        assertThat(afterSmallSkew).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.timestampOf(afterSmallSkew)).isEqualTo(NOW);
+
+        clock.set(NOW - 5000);
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID로는 생성기를 만들 수 없다.")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, () -> NOW, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID가 겹치지 않는다.")
+    void nextIdUnderContention() throws Exception {
+        // given
+        int threads = 8;
+        int idsPerThread = 100_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, System::currentTimeMillis, 1000);
+
+        // when
+        List<long[]> results = issueConcurrently(generator, threads, idsPerThread);
+
+        // then
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+        for (long[] array : results) {
+            for (long id : array) {
+                ids.add(id);
+            }
+        }
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    /**
+     * 경합 상황의 처리량 측정
+     * - 한 노드는 밀리초당 4,096개(초당 약 400만 개)까지 발급할 수 있으므로 그 1/4 이상은 나와야 한다.
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("8개 스레드가 경합해도 초당 100만 개 이상 발급한다.")
+    void nextIdThroughput(TestReporter reporter) throws Exception {
+        // given
+        int threads = 8;
+        int idsPerThread = 500_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, System::currentTimeMillis, 1000);
+        issueConcurrently(generator, threads, 50_000); // JIT 워밍업
+
+        // when
+        long startedAt = System.nanoTime();
+        issueConcurrently(generator, threads, idsPerThread);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // then
+        long idsPerSecond = (long) threads * idsPerThread * 1_000_000_000L / Math.max(elapsedNanos, 1);
+        reporter.publishEntry("snowflake.ids-per-second", String.valueOf(idsPerSecond));
+        assertThat(idsPerSecond).isGreaterThanOrEqualTo(1_000_000L);
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private static List<long[]> issueConcurrently(SnowflakeIdGenerator generator, int threads, int idsPerThread) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] issued = new long[idsPerThread];
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        issued[i] = generator.nextId();
+                    }
+                    return issued;
+                }));
+            }
+
+            start.countDown();
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
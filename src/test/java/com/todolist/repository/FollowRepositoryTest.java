@@ -0,0 +1,133 @@
+package com.todolist.repository;
+
+import com.todolist.entity.Follow;
+import com.todolist.entity.Member;
+import com.todolist.repository.dto.FollowMemberRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todolist.repository.QueryCaptor"
+})
+class FollowRepositoryTest {
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    /**
+     * 팔로잉 목록 조회 테스트
+     */
+    @Test
+    @DisplayName("팔로잉 목록은 count 쿼리 없이 한 번의 쿼리로 필요한 컬럼만 조회한다.")
+    void findFolloweeByFollowerIdSkipsCountQuery() {
+        // given
+        Member me = saveMember("me@example.com");
+        for (int i = 0; i < 15; i++) {
+            em.persist(Follow.builder()
+                    .follower(me)
+                    .followee(saveMember("followee" + i + "@example.com"))
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        QueryCaptor.clear();
+
+        // when
+        Slice<FollowMemberRow> slice = followRepository.findFolloweeRowsByFollowerId(me.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(QueryCaptor.statements()).hasSize(1);
+        assertThat(QueryCaptor.statements().getFirst().toLowerCase()).doesNotContain("count(").doesNotContain("password");
+    }
+
+    @Test
+    @DisplayName("팔로워 목록은 회원 ID 순서로 커서 이후의 회원만 조회한다.")
+    void findFollowerRowsByFolloweeIdAfter() {
+        // given
+        Member me = saveMember("me@example.com");
+        for (int i = 0; i < 5; i++) {
+            em.persist(Follow.builder()
+                    .follower(saveMember("follower" + i + "@example.com"))
+                    .followee(me)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<FollowMemberRow> first = followRepository.findFollowerRowsByFolloweeIdAfter(me.getId(), Long.MIN_VALUE, PageRequest.of(0, 3));
+        List<FollowMemberRow> second = followRepository.findFollowerRowsByFolloweeIdAfter(me.getId(), first.getLast().id(), PageRequest.of(0, 3));
+
+        // then
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(2);
+        assertThat(first).extracting(FollowMemberRow::id).isSorted();
+        assertThat(second.getFirst().id()).isGreaterThan(first.getLast().id());
+    }
+
+    /**
+     * 팔로우, 언팔로우 테스트
+     */
+    @Test
+    @DisplayName("같은 회원을 두 번 팔로우하면 유니크 제약 조건 위반이 발생한다.")
+    void duplicateFollowViolatesUniqueConstraint() {
+        // given
+        Member me = saveMember("me@example.com");
+        Member other = saveMember("other@example.com");
+        followRepository.saveAndFlush(Follow.builder().follower(me).followee(other).build());
+
+        // when & then
+        assertThatThrownBy(() -> followRepository.saveAndFlush(Follow.builder().follower(me).followee(other).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("언팔로우는 조회 없이 DELETE 한 번으로 처리하고, 삭제된 행 수를 반환한다.")
+    void deleteByFollowerIdAndFolloweeId() {
+        // given
+        Member me = saveMember("me@example.com");
+        Member other = saveMember("other@example.com");
+        em.persist(Follow.builder().follower(me).followee(other).build());
+        em.flush();
+        em.clear();
+        QueryCaptor.clear();
+
+        // when
+        int deleted = followRepository.deleteByFollowerIdAndFolloweeId(me.getId(), other.getId());
+        int deletedAgain = followRepository.deleteByFollowerIdAndFolloweeId(me.getId(), other.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isZero();
+        assertThat(QueryCaptor.statements()).hasSize(2);
+        assertThat(QueryCaptor.statements()).allMatch(sql -> sql.toLowerCase().startsWith("delete"));
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private Member saveMember(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password1234")
+                .nickname("tester")
+                .build();
+        return em.persist(member);
+    }
+}
@@ -0,0 +1,98 @@
+package com.todolist.repository;
+
+import com.todolist.entity.Follow;
+import com.todolist.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todolist.repository.QueryCaptor"
+})
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    /**
+     * 팔로워, 팔로잉 카운터 테스트
+     */
+    @Test
+    @DisplayName("팔로우 카운터는 두 회원을 UPDATE 한 번으로 함께 변경한다.")
+    void adjustFollowCounts() {
+        // given
+        Member me = saveMember("me@example.com");
+        Member other = saveMember("other@example.com");
+        em.flush();
+        QueryCaptor.clear();
+
+        // when
+        int updated = memberRepository.adjustFollowCounts(me.getId(), other.getId(), 1);
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(QueryCaptor.statements()).hasSize(1);
+
+        Member foundMe = em.find(Member.class, me.getId());
+        Member foundOther = em.find(Member.class, other.getId());
+        assertThat(foundMe.getFollowingCount()).isEqualTo(1L);
+        assertThat(foundMe.getFollowerCount()).isZero();
+        assertThat(foundOther.getFollowerCount()).isEqualTo(1L);
+        assertThat(foundOther.getFollowingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실제 팔로우 수와 다른 카운터만 다시 계산한다.")
+    void reconcileFollowCounts() {
+        // given (팔로우는 저장됐지만 카운터는 변경되지 않은 상태)
+        Member me = saveMember("me@example.com");
+        Member other = saveMember("other@example.com");
+        Member stranger = saveMember("stranger@example.com");
+        em.persist(Follow.builder().follower(me).followee(other).build());
+        em.flush();
+
+        // when
+        int corrected = memberRepository.reconcileFollowCounts(List.of(me.getId(), other.getId(), stranger.getId()));
+
+        // then
+        assertThat(corrected).isEqualTo(2);
+        assertThat(em.find(Member.class, me.getId()).getFollowingCount()).isEqualTo(1L);
+        assertThat(em.find(Member.class, other.getId()).getFollowerCount()).isEqualTo(1L);
+        assertThat(memberRepository.reconcileFollowCounts(List.of(me.getId(), other.getId(), stranger.getId()))).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 기준보다 많은 회원만 조회한다.")
+    void findIdsByFollowerCountGreaterThan() {
+        // given
+        Member me = saveMember("me@example.com");
+        Member other = saveMember("other@example.com");
+        em.flush();
+        memberRepository.adjustFollowCounts(me.getId(), other.getId(), 1);
+
+        // when & then
+        assertThat(memberRepository.findIdsByFollowerCountGreaterThan(0)).containsExactly(other.getId());
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private Member saveMember(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password1234")
+                .nickname("tester")
+                .build();
+        return em.persist(member);
+    }
+}
@@ -0,0 +1,297 @@
+package com.todolist.repository;
+
+import com.todolist.entity.Member;
+import com.todolist.entity.Todo;
+import com.todolist.entity.TodoDetail;
+import com.todolist.entity.enums.TodoDetailStatus;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.repository.dto.LatestTodoRow;
+import com.todolist.repository.dto.TodoDetailView;
+import com.todolist.repository.dto.TimelineRow;
+import com.todolist.repository.dto.TodoView;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.todolist.repository.QueryCaptor"
+})
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoDetailRepository todoDetailRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 페이지 조회 테스트
+     */
+    @Test
+    @DisplayName("투두 ID를 LIMIT으로 먼저 조회한 뒤, 해당 투두만 세부 할 일과 함께 순서대로 조회한다.")
+    void findViewSliceByMemberId() {
+        // given
+        Member member = saveMember("test@example.com");
+        saveTodos(member, 30);
+        em.flush();
+        em.clear();
+        QueryCaptor.clear();
+
+        // when
+        Slice<TodoView> slice = todoRepository.findViewSliceByMemberId(member.getId(), PageRequest.of(1, 10));
+
+        // then
+        List<String> expected = IntStream.range(10, 20)
+                .mapToObj(i -> "할 일 " + i)
+                .toList();
+        assertThat(slice.getContent()).extracting(TodoView::todoList).containsExactlyElementsOf(expected);
+        assertThat(slice.getContent()).allSatisfy(todo -> assertThat(todo.details()).hasSize(1));
+        assertThat(slice.hasNext()).isTrue();
+
+        String idQuery = QueryCaptor.statements().getFirst().toLowerCase();
+        assertThat(idQuery).containsAnyOf("limit", "fetch first"); // DB에서 페이징됨
+    }
+
+    @Test
+    @DisplayName("투두 목록 페이지를 조회할 때 전체 개수를 세는 count 쿼리는 실행되지 않는다.")
+    void findViewSliceByMemberIdSkipsCountQuery() {
+        // given
+        Member member = saveMember("count@example.com");
+        saveTodos(member, 30);
+        em.flush();
+        em.clear();
+        QueryCaptor.clear();
+
+        // when
+        Slice<TodoView> slice = todoRepository.findViewSliceByMemberId(member.getId(), PageRequest.of(2, 10));
+
+        // then
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(QueryCaptor.statements()).hasSize(2); // ID 페이지 조회 + 세부 할 일 함께 조회
+        assertThat(QueryCaptor.statements()).noneMatch(sql -> sql.toLowerCase().contains("count("));
+    }
+
+    @Test
+    @DisplayName("목록 조회는 필요한 컬럼만 읽기 모델로 조회하므로 엔티티를 영속성 컨텍스트에 올리지 않는다.")
+    void findViewSliceByMemberIdLoadsNoEntities() {
+        // given
+        Member member = saveMember("view@example.com");
+        saveTodos(member, 500);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Slice<TodoView> slice = todoRepository.findViewSliceByMemberId(member.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("세부 할 일이 없는 투두도 빈 세부 할 일 목록으로 조회되고, 세부 할 일은 투두별로 묶인다.")
+    void findViewsInOrderGroupsDetailsByTodo() {
+        // given
+        Member member = saveMember("group@example.com");
+        Todo withDetails = saveTodo(member, "세부 할 일 두 개", TodoStatus.NOT_STARTED);
+        saveDetail(withDetails, "세부 1");
+        saveDetail(withDetails, "세부 2");
+        Todo withoutDetails = saveTodo(member, "세부 할 일 없음", TodoStatus.IN_PROGRESS);
+        em.flush();
+        em.clear();
+
+        // when
+        List<TodoView> views = todoRepository.findViewsInOrder(List.of(withoutDetails.getId(), withDetails.getId()));
+
+        // then
+        assertThat(views).extracting(TodoView::id).containsExactly(withoutDetails.getId(), withDetails.getId()); // 요청한 ID 순서 유지
+        assertThat(views.getFirst().details()).isEmpty();
+        assertThat(views.getLast().details()).extracting(TodoDetailView::detailList).containsExactly("세부 1", "세부 2");
+        assertThat(views.getLast().details()).allSatisfy(detail -> assertThat(detail.parentId()).isEqualTo(withDetails.getId()));
+    }
+
+    /**
+     * 상태 변경 테스트
+     */
+    @Test
+    @DisplayName("세부 할 일 상태는 부모 투두의 소유자일 때만 UPDATE 한 번으로 변경된다.")
+    void updateDetailStatusByIdAndMemberId() {
+        // given
+        Member owner = saveMember("owner@example.com");
+        Member other = saveMember("other@example.com");
+        Todo todo = saveTodo(owner, "할 일", TodoStatus.NOT_STARTED);
+        TodoDetail detail = em.persist(TodoDetail.builder()
+                .todo(todo)
+                .detailList("세부 할 일")
+                .status(TodoDetailStatus.NOT_STARTED)
+                .build());
+        em.flush();
+        em.clear();
+        QueryCaptor.clear();
+
+        // when
+        int updatedByOther = todoDetailRepository.updateStatusByIdAndMemberId(detail.getId(), other.getId(), TodoDetailStatus.COMPLETED);
+        int updatedByOwner = todoDetailRepository.updateStatusByIdAndMemberId(detail.getId(), owner.getId(), TodoDetailStatus.COMPLETED);
+
+        // then
+        assertThat(updatedByOther).isZero();
+        assertThat(updatedByOwner).isEqualTo(1);
+        assertThat(QueryCaptor.statements()).hasSize(2); // 요청당 UPDATE 한 번
+        assertThat(todoDetailRepository.findViewById(detail.getId()))
+                .hasValueSatisfying(view -> assertThat(view.status()).isEqualTo(TodoDetailStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("세부 할 일 개수가 실제와 다른 투두만 다시 계산하고, 감소는 0 아래로 내려가지 않는다.")
+    void reconcileDetailCounts() {
+        // given (detail_count 컬럼이 추가되기 전에 저장된 투두처럼 개수가 0인 상태)
+        Member member = saveMember("reconcile@example.com");
+        Todo withDetails = saveTodo(member, "세부 할 일 있음", TodoStatus.NOT_STARTED);
+        Todo withoutDetails = saveTodo(member, "세부 할 일 없음", TodoStatus.NOT_STARTED);
+        saveDetail(withDetails, "세부 1");
+        saveDetail(withDetails, "세부 2");
+        em.flush();
+        em.clear();
+        List<Long> ids = todoRepository.findIdsAfter(Long.MIN_VALUE, PageRequest.of(0, 10));
+
+        // when
+        int corrected = todoRepository.reconcileDetailCounts(ids);
+
+        // then
+        assertThat(ids).containsExactly(withDetails.getId(), withoutDetails.getId());
+        assertThat(corrected).isEqualTo(1);
+        assertThat(em.find(Todo.class, withDetails.getId()).getDetailCount()).isEqualTo(2);
+        assertThat(todoRepository.reconcileDetailCounts(ids)).isZero();
+
+        // when (보정 전 카운터보다 많이 삭제된 경우)
+        todoRepository.decreaseDetailCount(withDetails.getId(), 3);
+
+        // then
+        assertThat(em.find(Todo.class, withDetails.getId()).getDetailCount()).isZero();
+    }
+
+    /**
+     * 삭제 테스트
+     */
+    @Test
+    @DisplayName("완료된 본인 투두는 세부 할 일과 함께 DELETE 두 번으로 삭제되고, 조건에 맞지 않는 투두는 남는다.")
+    void deleteByIdInAndMemberIdAndStatus() {
+        // given
+        Member member = saveMember("delete@example.com");
+        Todo completed1 = saveTodo(member, "완료 1", TodoStatus.COMPLETED);
+        Todo completed2 = saveTodo(member, "완료 2", TodoStatus.COMPLETED);
+        Todo inProgress = saveTodo(member, "진행 중", TodoStatus.IN_PROGRESS);
+        saveDetail(completed1, "세부 1");
+        saveDetail(completed2, "세부 2");
+        saveDetail(inProgress, "세부 3");
+        em.flush();
+        em.clear();
+        QueryCaptor.clear();
+
+        List<Long> ids = List.of(completed1.getId(), completed2.getId(), inProgress.getId());
+
+        // when
+        int deletedDetails = todoDetailRepository.deleteByTodoIdInAndMemberIdAndStatus(ids, member.getId(), TodoStatus.COMPLETED);
+        int deletedTodos = todoRepository.deleteByIdInAndMemberIdAndStatus(ids, member.getId(), TodoStatus.COMPLETED);
+
+        // then
+        assertThat(deletedDetails).isEqualTo(2);
+        assertThat(deletedTodos).isEqualTo(2);
+        assertThat(QueryCaptor.statements()).hasSize(2);
+        assertThat(todoRepository.findAllById(ids)).extracting(Todo::getId).containsExactly(inProgress.getId());
+    }
+
+    /**
+     * 피드 조회 테스트
+     */
+    @Test
+    @DisplayName("여러 회원의 투두를 커서 이전부터 최신순으로 조회하고, 회원별 가장 최근 투두 ID를 조회한다.")
+    void findFeedRowsByMemberIdIn() {
+        // given
+        Member author1 = saveMember("author1@example.com");
+        Member author2 = saveMember("author2@example.com");
+        Member stranger = saveMember("stranger@example.com");
+        Todo first = saveTodo(author1, "할 일 1", TodoStatus.NOT_STARTED);
+        Todo second = saveTodo(author2, "할 일 2", TodoStatus.NOT_STARTED);
+        saveTodo(stranger, "할 일 3", TodoStatus.NOT_STARTED);
+        Todo fourth = saveTodo(author1, "할 일 4", TodoStatus.NOT_STARTED);
+        em.flush();
+        em.clear();
+        List<Long> authorIds = List.of(author1.getId(), author2.getId());
+
+        // when
+        List<TimelineRow> rows = todoRepository.findTimelineRowsByMemberIdInBefore(authorIds, Long.MAX_VALUE, 10);
+        List<TimelineRow> rowsBeforeCursor = todoRepository.findTimelineRowsByMemberIdInBefore(authorIds, fourth.getId(), 10);
+        List<TimelineRow> limited = todoRepository.findTimelineRowsByMemberIdInBefore(authorIds, Long.MAX_VALUE, 2);
+        List<LatestTodoRow> heads = todoRepository.findLatestRowsByMemberIdIn(authorIds, fourth.getId());
+
+        // then
+        assertThat(rows).extracting(TimelineRow::todoId).containsExactly(fourth.getId(), second.getId(), first.getId());
+        assertThat(rows).extracting(TimelineRow::authorId).containsExactly(author1.getId(), author2.getId(), author1.getId());
+        assertThat(rowsBeforeCursor).extracting(TimelineRow::todoId).containsExactly(second.getId(), first.getId());
+        assertThat(limited).extracting(TimelineRow::todoId).containsExactly(fourth.getId(), second.getId());
+        assertThat(heads).containsExactlyInAnyOrder(
+                new LatestTodoRow(author1.getId(), first.getId()),
+                new LatestTodoRow(author2.getId(), second.getId()));
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private Member saveMember(String email) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password1234")
+                .nickname("tester")
+                .build();
+        return em.persist(member);
+    }
+
+    private void saveTodos(Member member, int count) {
+        for (int i = 0; i < count; i++) {
+            Todo todo = saveTodo(member, "할 일 " + i, TodoStatus.NOT_STARTED);
+            saveDetail(todo, "세부 할 일 " + i);
+        }
+    }
+
+    private Todo saveTodo(Member member, String content, TodoStatus status) {
+        return em.persist(Todo.builder()
+                .member(member)
+                .todoList(content)
+                .status(status)
+                .build());
+    }
+
+    private void saveDetail(Todo todo, String content) {
+        em.persist(TodoDetail.builder()
+                .todo(todo)
+                .detailList(content)
+                .status(TodoDetailStatus.NOT_STARTED)
+                .build());
+    }
+}
@@ -0,0 +1,213 @@
+package com.todolist.service;
+
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.exception.BadRequestException;
+import com.todolist.repository.FollowRepository;
+import com.todolist.repository.TimelineEntryRepository;
+import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.LatestTodoRow;
+import com.todolist.repository.dto.TimelineRow;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.service.cursor.CursorCodec;
+import com.todolist.service.dto.response.FeedItemResponse;
+import com.todolist.service.dto.response.FeedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FeedServiceTest {
+
+    private FeedService feedService;
+    private TodoRepository todoRepository;
+    private FollowRepository followRepository;
+    private TodoHitCounter todoHitCounter;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        followRepository = mock(FollowRepository.class);
+        todoHitCounter = mock(TodoHitCounter.class);
+        FollowGraphIndex followGraphIndex = new FollowGraphIndex(followRepository, 100, 600);
+        feedService = new FeedService(todoRepository, followRepository, followGraphIndex, todoHitCounter,
+                mock(TimelineEntryRepository.class), mock(CelebrityRegistry.class), false);
+
+        // 기본적으로 인덱스에 있는 팔로우 관계는 DB에도 있음
+        when(followRepository.findFolloweeIdsByFollowerIdAndFolloweeIdIn(any(), any()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("팔로우 대상이 적으면 IN 조건 한 번으로 최신순 피드를 조회한다.")
+    void readFeedWithSmallFanOut() {
+        // given
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(2L, 3L));
+        when(todoRepository.findTimelineRowsByMemberIdInBefore(List.of(2L, 3L), Long.MAX_VALUE, 3))
+                .thenReturn(List.of(row(30L, 3L), row(20L, 2L), row(10L, 3L)));
+        when(todoRepository.findViewsInOrder(List.of(30L, 20L)))
+                .thenReturn(List.of(buildTodoView(30L), buildTodoView(20L)));
+
+        // when
+        FeedResponse response = feedService.readFeed(1L, null, 2);
+
+        // then
+        assertThat(response.items()).extracting(FeedItemResponse::authorId).containsExactly(3L, 2L);
+        assertThat(response.items()).extracting(item -> item.todo().id()).containsExactly(30L, 20L);
+        assertThat(response.isLast()).isFalse();
+        assertThat(CursorCodec.decode(response.nextCursor())).isEqualTo(20L);
+        verify(todoRepository, never()).findLatestRowsByMemberIdIn(any(), any());
+        verify(todoHitCounter, times(2)).increase(any());
+    }
+
+    @Test
+    @DisplayName("팔로우 대상이 많으면 스트림의 맨 앞 항목이 큰 팔로우 대상만 골라 조회한다.")
+    @SuppressWarnings("unchecked")
+    void readFeedWithLargeFanOut() {
+        // given (팔로우 대상 2,500명 -> 맨 앞 항목은 1,000명씩 3번 조회)
+        List<Long> followeeIds = LongStream.rangeClosed(1_001, 3_500).boxed().toList();
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(followeeIds);
+        when(todoRepository.findLatestRowsByMemberIdIn(any(), eq(100L))).thenAnswer(invocation -> {
+            Collection<Long> memberIds = invocation.getArgument(0);
+            // 회원 ID가 클수록 최근에 작성한 투두가 있다고 가정
+            return memberIds.stream()
+                    .map(memberId -> new LatestTodoRow(memberId, memberId - 1_000))
+                    .toList();
+        });
+
+        // when
+        feedService.readFeed(1L, CursorCodec.encode(100L), 2);
+
+        // then
+        verify(todoRepository, times(3)).findLatestRowsByMemberIdIn(any(), eq(100L));
+
+        ArgumentCaptor<Collection<Long>> authorIds = ArgumentCaptor.forClass(Collection.class);
+        verify(todoRepository).findTimelineRowsByMemberIdInBefore(authorIds.capture(), eq(100L), eq(3));
+        assertThat(authorIds.getValue()).containsExactlyInAnyOrder(3_500L, 3_499L, 3_498L);
+    }
+
+    @Test
+    @DisplayName("타임라인을 사용하면 복사된 항목과 팔로워가 많은 회원의 투두를 최신순으로 합친다.")
+    void readFeedFromTimeline() {
+        // given (4번 회원은 언팔로우했지만 아직 타임라인에 남아 있음, 3번 회원은 팔로워가 많아 복사 대상에서 제외)
+        TimelineEntryRepository timelineEntryRepository = mock(TimelineEntryRepository.class);
+        CelebrityRegistry celebrityRegistry = mock(CelebrityRegistry.class);
+        FeedService timelineFeedService = new FeedService(todoRepository, followRepository,
+                new FollowGraphIndex(followRepository, 100, 600), todoHitCounter, timelineEntryRepository, celebrityRegistry, true);
+
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(2L, 3L));
+        when(celebrityRegistry.isCelebrity(3L)).thenReturn(true);
+        when(timelineEntryRepository.findRowsByOwnerIdBefore(1L, Long.MAX_VALUE, PageRequest.of(0, 4)))
+                .thenReturn(List.of(new TimelineRow(50L, 2L), new TimelineRow(40L, 4L), new TimelineRow(20L, 2L)));
+        when(todoRepository.findTimelineRowsByMemberIdInBefore(List.of(3L), Long.MAX_VALUE, 4))
+                .thenReturn(List.of(row(45L, 3L), row(30L, 3L)));
+        when(todoRepository.findViewsInOrder(List.of(50L, 45L)))
+                .thenReturn(List.of(buildTodoView(50L), buildTodoView(45L)));
+
+        // 언팔로우한 회원의 항목(40)이 빠져 모자란 1개는 읽은 위치(40) 이후부터 더 읽어서 채움
+        when(timelineEntryRepository.findRowsByOwnerIdBefore(1L, 40L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new TimelineRow(20L, 2L)));
+        when(todoRepository.findTimelineRowsByMemberIdInBefore(List.of(3L), 40L, 2))
+                .thenReturn(List.of(row(30L, 3L)));
+        when(todoRepository.findViewsInOrder(List.of(30L)))
+                .thenReturn(List.of(buildTodoView(30L)));
+
+        // when
+        FeedResponse response = timelineFeedService.readFeed(1L, null, 3);
+
+        // then
+        assertThat(response.items()).extracting(item -> item.todo().id()).containsExactly(50L, 45L, 30L);
+        assertThat(response.items()).extracting(FeedItemResponse::authorId).containsExactly(2L, 3L, 3L);
+        assertThat(response.isLast()).isFalse();
+        assertThat(CursorCodec.decode(response.nextCursor())).isEqualTo(30L);
+        verify(todoRepository, never()).findLatestRowsByMemberIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("읽은 투두가 모두 삭제되었으면 빈 페이지를 반환하지 않고 읽은 위치 이후부터 더 읽는다.")
+    void readFeedSkipsDeletedTodos() {
+        // given (30, 20번 투두는 타임라인에 남아 있지만 이미 삭제됨)
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(2L, 3L));
+        when(todoRepository.findTimelineRowsByMemberIdInBefore(List.of(2L, 3L), Long.MAX_VALUE, 3))
+                .thenReturn(List.of(row(30L, 3L), row(20L, 2L), row(10L, 3L)));
+        when(todoRepository.findViewsInOrder(List.of(30L, 20L))).thenReturn(List.of());
+        when(todoRepository.findTimelineRowsByMemberIdInBefore(List.of(2L, 3L), 20L, 3))
+                .thenReturn(List.of(row(10L, 3L)));
+        when(todoRepository.findViewsInOrder(List.of(10L))).thenReturn(List.of(buildTodoView(10L)));
+
+        // when
+        FeedResponse response = feedService.readFeed(1L, null, 2);
+
+        // then
+        assertThat(response.items()).extracting(item -> item.todo().id()).containsExactly(10L);
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 언팔로우해 인덱스에만 남은 회원의 투두는 DB 확인에서 빠지고, 인덱스는 다시 읽는다.")
+    void readFeedDropsAuthorsUnfollowedElsewhere() {
+        // given (인덱스에는 2, 3번 회원이 있지만 3번 회원은 이미 언팔로우됨)
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(2L, 3L), List.of(2L));
+        when(followRepository.findFolloweeIdsByFollowerIdAndFolloweeIdIn(eq(1L), any())).thenReturn(List.of(2L));
+        when(todoRepository.findTimelineRowsByMemberIdInBefore(List.of(2L, 3L), Long.MAX_VALUE, 3))
+                .thenReturn(List.of(row(30L, 3L), row(20L, 2L)));
+        when(todoRepository.findViewsInOrder(List.of(20L))).thenReturn(List.of(buildTodoView(20L)));
+
+        // when
+        FeedResponse response = feedService.readFeed(1L, null, 2);
+
+        // then
+        assertThat(response.items()).extracting(FeedItemResponse::authorId).containsExactly(2L);
+        assertThat(response.isLast()).isTrue();
+
+        // when
+        feedService.readFeed(1L, null, 2);
+
+        // then
+        verify(followRepository, times(2)).findFolloweeIdsByFollowerId(1L);
+        verify(todoRepository).findTimelineRowsByMemberIdInBefore(List.of(2L), Long.MAX_VALUE, 3);
+    }
+
+    @Test
+    @DisplayName("팔로우한 사람이 없으면 투두를 조회하지 않고 빈 피드를 반환한다.")
+    void readFeedWithoutFollowees() {
+        // given
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of());
+
+        // when
+        FeedResponse response = feedService.readFeed(1L, null, 20);
+
+        // then
+        assertThat(response.items()).isEmpty();
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.nextCursor()).isNull();
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 페이지 사이즈를 요청할 경우 예외가 발생한다.")
+    void readFeedFailedDueToPageSize() {
+        assertThrows(BadRequestException.class, () -> feedService.readFeed(1L, null, 51));
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private TimelineRow row(Long todoId, Long authorId) {
+        return new TimelineRow(todoId, authorId);
+    }
+
+    private TodoView buildTodoView(Long id) {
+        return new TodoView(id, 0L, "할 일 " + id, TodoStatus.NOT_STARTED, new ArrayList<>());
+    }
+}
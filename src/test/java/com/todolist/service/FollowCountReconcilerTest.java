@@ -0,0 +1,48 @@
+package com.todolist.service;
+
+import com.todolist.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FollowCountReconcilerTest {
+
+    private MemberRepository memberRepository;
+    private FollowCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        reconciler = new FollowCountReconciler(memberRepository, TransactionOperations.withoutTransaction(), 2, 2);
+    }
+
+    @Test
+    @DisplayName("한 번 실행할 때 정해진 청크 수만큼만 확인하고, 다음 실행은 이어서 확인한 뒤 끝나면 처음부터 다시 시작한다.")
+    void reconcileBoundedChunksPerRun() {
+        // given (회원 1 ~ 5번을 2명씩 확인)
+        when(memberRepository.findIdsAfter(Long.MIN_VALUE, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(memberRepository.findIdsAfter(2L, PageRequest.of(0, 2))).thenReturn(List.of(3L, 4L));
+        when(memberRepository.findIdsAfter(4L, PageRequest.of(0, 2))).thenReturn(List.of(5L));
+        when(memberRepository.findIdsAfter(5L, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(memberRepository.reconcileFollowCounts(List.of(3L, 4L))).thenReturn(1);
+
+        // when & then (1, 2번 청크)
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        verify(memberRepository, never()).findIdsAfter(4L, PageRequest.of(0, 2));
+
+        // when & then (이어서 3번 청크, 끝까지 확인)
+        assertThat(reconciler.reconcile()).isZero();
+        verify(memberRepository).reconcileFollowCounts(List.of(5L));
+
+        // when & then (처음부터 다시)
+        reconciler.reconcile();
+        verify(memberRepository, times(2)).findIdsAfter(Long.MIN_VALUE, PageRequest.of(0, 2));
+    }
+}
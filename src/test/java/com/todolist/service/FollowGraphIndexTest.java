@@ -0,0 +1,136 @@
+package com.todolist.service;
+
+import com.todolist.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class FollowGraphIndexTest {
+
+    private FollowRepository followRepository;
+    private FollowGraphIndex followGraphIndex;
+
+    @BeforeEach
+    void setUp() {
+        followRepository = mock(FollowRepository.class);
+        followGraphIndex = new FollowGraphIndex(followRepository, 100_000, 600);
+    }
+
+    @Test
+    @DisplayName("팔로워의 팔로우 대상은 처음 확인할 때 한 번만 DB에서 읽는다.")
+    void isFollowingLoadsOnce() {
+        // given
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(5L, 3L, 9L));
+
+        // when & then
+        assertThat(followGraphIndex.isFollowing(1L, 3L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(1L, 9L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(1L, 4L)).isFalse();
+        verify(followRepository, times(1)).findFolloweeIdsByFollowerId(1L);
+    }
+
+    @Test
+    @DisplayName("읽어온 팔로워에는 팔로우가 바로 반영되고, 언팔로우하면 간선을 버리고 DB에서 다시 읽는다.")
+    void addAndRemove() {
+        // given
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(3L), List.of(7L));
+        followGraphIndex.isFollowing(1L, 3L);
+
+        // when
+        followGraphIndex.add(1L, 7L);
+        followGraphIndex.add(1L, 7L);
+
+        // then
+        assertThat(followGraphIndex.edgeCount()).isEqualTo(2);
+
+        // when
+        followGraphIndex.remove(1L, 3L);
+
+        // then
+        assertThat(followGraphIndex.edgeCount()).isZero();
+        assertThat(followGraphIndex.isFollowing(1L, 7L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(1L, 3L)).isFalse();
+        verify(followRepository, times(2)).findFolloweeIdsByFollowerId(1L);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 언팔로우가 반영되면 읽어온 간선은 인덱스에 올리지 않는다.")
+    void staleLoadIsNotInstalled() {
+        // given (언팔로우가 커밋되기 전에 간선을 읽었고, 인덱스에 올리기 전에 언팔로우가 반영됨)
+        when(followRepository.findFolloweeIdsByFollowerId(1L))
+                .thenAnswer(invocation -> {
+                    followGraphIndex.remove(1L, 3L);
+                    return List.of(3L);
+                })
+                .thenReturn(List.of());
+
+        // when
+        followGraphIndex.isFollowing(1L, 3L);
+
+        // then
+        assertThat(followGraphIndex.edgeCount()).isZero();
+        assertThat(followGraphIndex.isFollowing(1L, 3L)).isFalse();
+        verify(followRepository, times(2)).findFolloweeIdsByFollowerId(1L);
+    }
+
+    @Test
+    @DisplayName("아직 읽어오지 않은 팔로워의 변경은 인덱스에 올리지 않는다.")
+    void addToUnloadedFollower() {
+        // when
+        followGraphIndex.add(1L, 7L);
+
+        // then
+        assertThat(followGraphIndex.edgeCount()).isZero();
+        verify(followRepository, never()).findFolloweeIdsByFollowerId(anyLong());
+    }
+
+    /**
+     * 간선 1개당 메모리 사용량 측정
+     * - 팔로워 10,000명 x 팔로우 대상 100명을 올린 뒤 힙 사용량 차이를 잰다.
+     * - 간선은 long 하나(8바이트)이고 팔로워마다 배열 헤더와 캐시 항목이 붙으므로 간선당 16바이트를 넘으면 안 된다.
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("팔로우 관계 100만 개를 올려도 간선당 16바이트 이하를 쓴다.")
+    void memoryPerEdge(TestReporter reporter) {
+        // given
+        int members = 10_000;
+        int followeesPerMember = 100;
+        when(followRepository.findFolloweeIdsByFollowerId(anyLong())).thenAnswer(invocation -> {
+            long followerId = invocation.getArgument(0);
+            return LongStream.range(0, followeesPerMember)
+                    .map(i -> followerId * 1_000 + i)
+                    .boxed()
+                    .toList();
+        });
+        long before = usedHeap();
+
+        // when
+        for (long followerId = 1; followerId <= members; followerId++) {
+            followGraphIndex.isFollowing(followerId, 0L);
+        }
+        long after = usedHeap();
+
+        // then
+        long edges = followGraphIndex.edgeCount();
+        assertThat(edges).isEqualTo((long) members * followeesPerMember);
+        double bytesPerEdge = (double) (after - before) / edges;
+        reporter.publishEntry("follow-graph-index.bytes-per-edge", String.format("%.1f", bytesPerEdge));
+        assertThat(bytesPerEdge).isLessThanOrEqualTo(16.0);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
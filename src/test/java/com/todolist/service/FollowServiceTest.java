@@ -3,30 +3,37 @@ package com.todolist.service;
 import com.todolist.entity.Follow;
 import com.todolist.entity.Member;
 import com.todolist.entity.Todo;
-import com.todolist.entity.TodoDetail;
 import com.todolist.entity.enums.TodoDetailStatus;
 import com.todolist.entity.enums.TodoStatus;
 import com.todolist.exception.BadRequestException;
 import com.todolist.exception.ConflictException;
+import com.todolist.exception.NotFoundException;
 import com.todolist.repository.FollowRepository;
 import com.todolist.repository.MemberRepository;
 import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.FollowMemberRow;
+import com.todolist.repository.dto.TodoDetailView;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.service.cursor.CursorCodec;
+import com.todolist.service.dto.response.FollowCursorListResponse;
 import com.todolist.service.dto.response.FollowingListResponse;
+import com.todolist.service.dto.response.FollowingResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import com.todolist.service.dto.response.TodoWithDetailResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,13 +46,21 @@ class FollowServiceTest {
     private FollowRepository followRepository;
     private MemberRepository memberRepository;
     private TodoRepository todoRepository;
+    private TodoHitCounter todoHitCounter;
+    private FollowGraphIndex followGraphIndex;
+    private TodoVersionTracker todoVersionTracker;
 
     @BeforeEach
     void setUp() {
         followRepository = mock(FollowRepository.class);
         memberRepository = mock(MemberRepository.class);
         todoRepository = mock(TodoRepository.class);
-        followService = new FollowService(followRepository, memberRepository, todoRepository);
+        todoHitCounter = mock(TodoHitCounter.class);
+        todoVersionTracker = new TodoVersionTracker(100);
+        TodoListCache todoListCache = new TodoListCache(todoVersionTracker, true, 100, 30);
+        followGraphIndex = new FollowGraphIndex(followRepository, 100, 600);
+        followService = new FollowService(followRepository, memberRepository, todoRepository, todoHitCounter, todoListCache, todoVersionTracker, followGraphIndex,
+                mock(TimelineFanoutWorker.class), TransactionOperations.withoutTransaction());
     }
 
     /**
@@ -56,26 +71,56 @@ class FollowServiceTest {
     void getFollowings() {
         // given
         Member me = buildMember("me@example.com", "me", 1L);
-        Member followee1 = buildMember("followee1@example.com", "followee1", 2L);
-        Member followee2 = buildMember("followee2@example.com", "followee2", 3L);
 
         int pageNum = 0;
         Pageable pageable = PageRequest.of(pageNum, 10);
 
-        Page<Member> followingPage = new PageImpl<>(List.of(followee1, followee2), pageable, 2);
+        Slice<FollowMemberRow> followingSlice = new SliceImpl<>(List.of(memberRow(2L), memberRow(3L)), pageable, false);
 
-        when(followRepository.findFolloweeByFollower(me, pageable)).thenReturn(followingPage);
+        when(followRepository.findFolloweeRowsByFollowerId(me.getId(), pageable)).thenReturn(followingSlice);
 
         // when
-        FollowingListResponse response = followService.getFollowings(me, pageNum);
+        FollowingListResponse response = followService.getFollowings(me.getId(), pageNum);
 
         // then
-        verify(followRepository, times(1)).findFolloweeByFollower(me, pageable);
+        verify(followRepository, times(1)).findFolloweeRowsByFollowerId(me.getId(), pageable);
 
         assertThat(response.followings()).hasSize(2);
         assertThat(response.isLast()).isTrue();
     }
 
+    @Test
+    @DisplayName("팔로워 목록은 커서 이후 size + 1개를 읽어 다음 페이지 커서를 만든다.")
+    void getFollowers() {
+        // given
+        when(followRepository.findFollowerRowsByFolloweeIdAfter(1L, 5L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(memberRow(6L), memberRow(8L), memberRow(9L)));
+
+        // when
+        FollowCursorListResponse response = followService.getFollowers(1L, CursorCodec.encode(5L), 2);
+
+        // then
+        assertThat(response.members()).extracting(FollowingResponse::id).containsExactly(6L, 8L);
+        assertThat(response.isLast()).isFalse();
+        assertThat(CursorCodec.decode(response.nextCursor())).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("팔로잉 목록의 첫 페이지는 처음부터 조회하고, 남은 회원이 없으면 마지막 페이지다.")
+    void getFollowingsByCursor() {
+        // given
+        when(followRepository.findFolloweeRowsByFollowerIdAfter(1L, Long.MIN_VALUE, PageRequest.of(0, 21)))
+                .thenReturn(List.of(memberRow(2L)));
+
+        // when
+        FollowCursorListResponse response = followService.getFollowingsByCursor(1L, null, 20);
+
+        // then
+        assertThat(response.members()).hasSize(1);
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.nextCursor()).isNull();
+    }
+
     /**
      * 팔로우 테스트
      */
@@ -86,15 +131,16 @@ class FollowServiceTest {
         Member me = buildMember("me@example.com", "me", 1L);
         Member other = buildMember("other@example.com", "other", 2L);
 
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(me));
-        when(memberRepository.findById(2L)).thenReturn(Optional.of(other));
-        when(followRepository.existsByFollowerAndFollowee(me, other)).thenReturn(false);
+        when(memberRepository.getReferenceById(1L)).thenReturn(me);
+        when(memberRepository.getReferenceById(2L)).thenReturn(other);
 
         // when
-        followService.follow(me, 2L);
+        followService.follow(me.getId(), 2L);
 
         // then
-        verify(followRepository, times(1)).save(any(Follow.class));
+        verify(followRepository, times(1)).saveAndFlush(any(Follow.class));
+        verify(memberRepository, times(1)).adjustFollowCounts(1L, 2L, 1);
+        verify(memberRepository, never()).findById(any()); // 회원 조회 없이 INSERT
     }
 
     @Test
@@ -104,22 +150,30 @@ class FollowServiceTest {
         Member me = buildMember("me@example.com", "me", 1L);
 
         // when & then
-        assertThrows(BadRequestException.class, () -> followService.follow(me, me.getId()));
+        assertThrows(BadRequestException.class, () -> followService.follow(me.getId(), me.getId()));
     }
 
     @Test
     @DisplayName("이미 팔로우한 경우 예외가 발생한다.")
     void followFailedDueToConflict() {
-        // given
-        Member me = buildMember("me@example.com", "me", 1L);
-        Member other = buildMember("other@example.com", "other", 2L);
+        // given (유니크 제약 조건 위반)
+        when(followRepository.saveAndFlush(any(Follow.class))).thenThrow(new DataIntegrityViolationException("uk_follow_follower_id_followee_id"));
+        when(memberRepository.existsById(2L)).thenReturn(true);
+
+        // when & then
+        assertThrows(ConflictException.class, () -> followService.follow(1L, 2L));
+        verify(memberRepository, never()).adjustFollowCounts(any(), any(), anyInt());
+    }
 
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(me));
-        when(memberRepository.findById(2L)).thenReturn(Optional.of(other));
-        when(followRepository.existsByFollowerAndFollowee(me, other)).thenReturn(true);
+    @Test
+    @DisplayName("존재하지 않는 사용자를 팔로우할 경우 예외가 발생한다.")
+    void followFailedDueToNotFound() {
+        // given (FK 제약 조건 위반)
+        when(followRepository.saveAndFlush(any(Follow.class))).thenThrow(new DataIntegrityViolationException("fk_follow_followee_id"));
+        when(memberRepository.existsById(99L)).thenReturn(false);
 
         // when & then
-        assertThrows(ConflictException.class, () -> followService.follow(me, 2L));
+        assertThrows(NotFoundException.class, () -> followService.follow(1L, 99L));
     }
 
     /**
@@ -129,33 +183,26 @@ class FollowServiceTest {
     @DisplayName("다른 사람을 언팔로우할 수 있다.")
     void unfollow() {
         // given
-        Member me = buildMember("me@example.com", "me", 1L);
-        Member other = buildMember("other@example.com", "other", 2L);
-
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(me));
-        when(memberRepository.findById(2L)).thenReturn(Optional.of(other));
-        when(followRepository.existsByFollowerAndFollowee(me, other)).thenReturn(true);
+        when(followRepository.deleteByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(1);
 
         // when
-        followService.unfollow(me, 2L);
+        followService.unfollow(1L, 2L);
 
         // then
-        verify(followRepository, times(1)).deleteByFollowerAndFollowee(me, other);
+        verify(followRepository, times(1)).deleteByFollowerIdAndFolloweeId(1L, 2L);
+        verify(memberRepository, times(1)).adjustFollowCounts(1L, 2L, -1);
+        verify(memberRepository, never()).existsById(any()); // 삭제되었으면 추가 조회 없음
     }
 
     @Test
     @DisplayName("팔로우하지 않은 사람을 언팔로우할 경우 예외가 발생한다.")
     void unfollowFailedDueToBadRequest() {
         // given
-        Member me = buildMember("me@example.com", "me", 1L);
-        Member other = buildMember("other@example.com", "other", 2L);
-
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(me));
-        when(memberRepository.findById(2L)).thenReturn(Optional.of(other));
-        when(followRepository.existsByFollowerAndFollowee(me, other)).thenReturn(false);
+        when(followRepository.deleteByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(0);
+        when(memberRepository.existsById(2L)).thenReturn(true);
 
         // when & then
-        assertThrows(BadRequestException.class, () -> followService.unfollow(me, 2L));
+        assertThrows(BadRequestException.class, () -> followService.unfollow(1L, 2L));
     }
 
     /**
@@ -168,43 +215,42 @@ class FollowServiceTest {
         Member me = buildMember("me@example.com", "me", 1L);
         Member followee = buildMember("followee@example.com", "followee", 2L);
 
-        List<Todo> followeeTodoList = new ArrayList<>();
+        List<TodoView> followeeTodoList = new ArrayList<>();
 
-        Todo todo1 = buildTodo(followee, "할 일 1");
-        TodoDetail todo1Detail = buildTodoDetail(todo1, "1 - 세부 할 일");
-        todo1.addTodoDetail(todo1Detail);
+        TodoView todo1 = buildTodoView(1L, "할 일 1");
+        todo1.details().add(new TodoDetailView(1L, 1L, "1 - 세부 할 일", TodoDetailStatus.NOT_STARTED));
         followeeTodoList.add(todo1);
 
-        Todo todo2 = buildTodo(followee, "할 일 2");
+        TodoView todo2 = buildTodoView(2L, "할 일 2");
         followeeTodoList.add(todo2);
 
         int pageNum = 0;
         Pageable pageable = PageRequest.of(pageNum, 10);
 
-        Page<Todo> followeeTodoPage = new PageImpl<>(followeeTodoList, pageable, 2);
+        Slice<TodoView> followeeTodoSlice = new SliceImpl<>(followeeTodoList, pageable, false);
 
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(me));
-        when(memberRepository.findById(2L)).thenReturn(Optional.of(followee));
-        when(followRepository.existsByFollowerAndFollowee(me, followee)).thenReturn(true);
-        when(todoRepository.findByMemberId(followee.getId(), pageable)).thenReturn(followeeTodoPage);
+        when(followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(true);
+        when(todoRepository.findViewSliceByMemberId(followee.getId(), pageable)).thenReturn(followeeTodoSlice);
 
         // when
-        TodoListResponse response = followService.readFolloweeTodoList(me, followee.getId(), pageNum);
+        TodoListResponse response = followService.readFolloweeTodoList(me.getId(), followee.getId(), pageNum);
 
         // then
-        verify(todoRepository, times(1)).findByMemberId(followee.getId(), pageable);
-        verify(todoRepository, times(2)).save(any(Todo.class));
+        verify(todoRepository, times(1)).findViewSliceByMemberId(followee.getId(), pageable);
+        verify(memberRepository, never()).existsById(any()); // 팔로우 관계가 있으면 회원 조회는 하지 않음
+        verify(todoHitCounter, times(2)).increase(any()); // 조회수는 메모리에 누적 후 주기적으로 반영
+        verify(todoRepository, never()).save(any(Todo.class));
 
         assertThat(response.todos()).hasSize(2);
 
         TodoWithDetailResponse todoWithDetailResponse1 = response.todos().getFirst();
-        assertThat(todoWithDetailResponse1.hit()).isEqualTo(1); // 조회 시 조회수가 올라가며, 조회수 조회 가능
+        assertThat(todoWithDetailResponse1.hit()).isEqualTo(0); // 응답에는 DB에 반영된 조회수가 보여짐
         assertThat(todoWithDetailResponse1.todo()).isEqualTo("할 일 1");
         assertThat(todoWithDetailResponse1.detailList()).hasSize(1);
         assertThat(todoWithDetailResponse1.detailList().getFirst().todo()).isEqualTo("1 - 세부 할 일"); // 세부 할 일까지 함께 조회됨
 
         TodoWithDetailResponse todoWithDetailResponse2 = response.todos().get(1);
-        assertThat(todoWithDetailResponse2.hit()).isEqualTo(1); // 조회 시 조회수가 올라가며, 조회수 조회 가능
+        assertThat(todoWithDetailResponse2.hit()).isEqualTo(0); // 응답에는 DB에 반영된 조회수가 보여짐
         assertThat(todoWithDetailResponse2.todo()).isEqualTo("할 일 2");
         assertThat(todoWithDetailResponse2.detailList()).isEmpty();
     }
@@ -216,7 +262,7 @@ class FollowServiceTest {
         Member me = buildMember("me@example.com", "me", 1L);
 
         // when & then
-        assertThrows(BadRequestException.class, () -> followService.readFolloweeTodoList(me, me.getId(), 0));
+        assertThrows(BadRequestException.class, () -> followService.readFolloweeTodoList(me.getId(), me.getId(), 0));
     }
 
     @Test
@@ -226,12 +272,68 @@ class FollowServiceTest {
         Member me = buildMember("me@example.com", "me", 1L);
         Member other = buildMember("other@example.com", "other", 2L);
 
-        when(memberRepository.findById(1L)).thenReturn(Optional.of(me));
-        when(memberRepository.findById(2L)).thenReturn(Optional.of(other));
-        when(followRepository.existsByFollowerAndFollowee(me, other)).thenReturn(false);
+        when(memberRepository.existsById(2L)).thenReturn(true);
+
+        // when & then
+        assertThrows(BadRequestException.class, () -> followService.readFolloweeTodoList(me.getId(), other.getId(), 0));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 투두 리스트 조회를 요청할 경우 예외가 발생한다.")
+    void readFolloweeTodoListFailedDueToNotFound() {
+        // given
+        when(memberRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> followService.readFolloweeTodoList(1L, 99L, 0));
+    }
+
+    @Test
+    @DisplayName("팔로우한 사람의 투두 목록 ETag는 팔로우 중일 때만 발급된다.")
+    void getFolloweeTodoListETag() {
+        // given
+        when(followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(true);
+        when(memberRepository.existsById(3L)).thenReturn(true);
 
         // when & then
-        assertThrows(BadRequestException.class, () -> followService.readFolloweeTodoList(me, other.getId(), 0));
+        assertThat(followService.getFolloweeTodoListETag(1L, 2L)).startsWith("W/\"");
+        assertThrows(BadRequestException.class, () -> followService.getFolloweeTodoListETag(1L, 3L));
+        verify(todoRepository, never()).findViewSliceByMemberId(any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로우 확인 중에 목록이 바뀌어도 이전 스냅샷을 새 버전으로 캐시하지 않는다.")
+    void readFolloweeTodoListCachesUnderVersionReadFirst() {
+        // given (팔로우 확인 쿼리가 실행되는 사이 팔로우한 사람이 투두를 작성함)
+        Pageable pageable = PageRequest.of(0, 10);
+        when(followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenAnswer(invocation -> {
+            todoVersionTracker.increase(2L);
+            return true;
+        }).thenReturn(true);
+        when(todoRepository.findViewSliceByMemberId(2L, pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // when
+        followService.readFolloweeTodoList(1L, 2L, 0);
+        followService.readFolloweeTodoList(1L, 2L, 0);
+
+        // then (첫 조회는 이전 버전으로 캐시되므로 두 번째 조회는 새 버전으로 다시 조회)
+        verify(todoRepository, times(2)).findViewSliceByMemberId(2L, pageable);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 언팔로우해 인덱스에는 남아 있는 관계라도 DB로 확인해 조회를 막는다.")
+    void unfollowedOnAnotherInstance() {
+        // given (인덱스에는 팔로우 중인 상태로 올라와 있음)
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(2L));
+        when(memberRepository.existsById(2L)).thenReturn(true);
+        assertThat(followGraphIndex.isFollowing(1L, 2L)).isTrue();
+
+        // when (다른 서버에서 언팔로우)
+        when(followRepository.existsByFollowerIdAndFolloweeId(1L, 2L)).thenReturn(false);
+
+        // then
+        assertThrows(BadRequestException.class, () -> followService.readFolloweeTodoList(1L, 2L, 0));
+        verify(todoRepository, never()).findViewSliceByMemberId(any(), any());
     }
 
     /**
@@ -247,19 +349,11 @@ class FollowServiceTest {
         return member;
     }
 
-    private Todo buildTodo(Member member, String content) {
-        return Todo.builder()
-                .member(member)
-                .todoList(content)
-                .status(TodoStatus.NOT_STARTED)
-                .build();
+    private TodoView buildTodoView(Long id, String content) {
+        return new TodoView(id, 0L, content, TodoStatus.NOT_STARTED, new ArrayList<>());
     }
 
-    private TodoDetail buildTodoDetail(Todo parentTodo, String content) {
-        return TodoDetail.builder()
-                .todo(parentTodo)
-                .detailList(content)
-                .status(TodoDetailStatus.NOT_STARTED)
-                .build();
+    private FollowMemberRow memberRow(Long id) {
+        return new FollowMemberRow(id, "회원" + id, 0L, 0L);
     }
 }
\ No newline at end of file
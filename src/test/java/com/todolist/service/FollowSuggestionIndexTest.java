@@ -0,0 +1,118 @@
+package com.todolist.service;
+
+import com.todolist.service.FollowSuggestionIndex.Snapshot;
+import com.todolist.service.FollowSuggestionIndex.Suggestion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FollowSuggestionIndexTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("팔로우한 사람들이 많이 팔로우하는 회원 순으로 추천하고, 본인과 이미 팔로우한 회원은 제외한다.")
+    void suggestFriendsOfFriends() {
+        // given (1 -> 2, 3 / 2 -> 1, 4 / 3 -> 2, 4, 5)
+        long[] followerIds = {1, 1, 2, 2, 3, 3, 3};
+        long[] followeeIds = {2, 3, 1, 4, 2, 4, 5};
+
+        // when
+        Snapshot snapshot = FollowSuggestionIndex.build(followerIds, followeeIds, followerIds.length, 10, 100, pool);
+
+        // then
+        assertThat(snapshot.suggestions(1L)).containsExactly(new Suggestion(4L, 2), new Suggestion(5L, 1));
+        assertThat(snapshot.suggestions(2L)).containsExactly(new Suggestion(3L, 1));
+        assertThat(snapshot.suggestions(4L)).isEmpty(); // 팔로우한 사람이 없음
+        assertThat(snapshot.suggestions(99L)).isEmpty(); // 스냅샷에 없는 회원
+    }
+
+    @Test
+    @DisplayName("추천은 topN명까지만 남기고, 겹치는 수가 같으면 회원 ID가 작은 순서로 정렬한다.")
+    void keepTopN() {
+        // given (1 -> 2 -> 10 ~ 14)
+        long[] followerIds = {1, 2, 2, 2, 2, 2};
+        long[] followeeIds = {2, 14, 12, 10, 13, 11};
+
+        // when
+        Snapshot snapshot = FollowSuggestionIndex.build(followerIds, followeeIds, followerIds.length, 3, 100, pool);
+
+        // then
+        assertThat(snapshot.suggestions(1L)).extracting(Suggestion::memberId).containsExactly(10L, 11L, 12L);
+    }
+
+    @Test
+    @DisplayName("팔로우 대상이 maxExpansion명보다 많은 회원은 거치지 않는다.")
+    void skipLargeFanOut() {
+        // given (2번 회원은 팔로우 대상 3명)
+        long[] followerIds = {1, 2, 2, 2};
+        long[] followeeIds = {2, 10, 11, 12};
+
+        // when
+        Snapshot snapshot = FollowSuggestionIndex.build(followerIds, followeeIds, followerIds.length, 10, 2, pool);
+
+        // then
+        assertThat(snapshot.suggestions(1L)).isEmpty();
+    }
+
+    /**
+     * 재구성 시간과 스냅샷 크기 측정
+     * - 재구성 주기(기본 10분)에 비해 충분히 짧아야 하고, 스냅샷은 회원 ID(8바이트)와 회원당 topN개의 추천(8바이트씩)만 남아야 한다.
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("팔로우 100만 건으로 추천 스냅샷을 5초 안에 만들고, 스냅샷은 회원당 100바이트 이하를 쓴다.")
+    void rebuildBenchmark(TestReporter reporter) {
+        // given (회원 10만 명이 10명씩 팔로우, 회원 ID가 작을수록 인기가 많도록 치우치게 선택)
+        int members = 100_000;
+        int followsPerMember = 10;
+        int edges = members * followsPerMember;
+
+        SplittableRandom random = new SplittableRandom(42);
+        long[] followerIds = new long[edges];
+        long[] followeeIds = new long[edges];
+        for (int edge = 0; edge < edges; edge++) {
+            double r = random.nextDouble();
+            followerIds[edge] = edge / followsPerMember + 1;
+            followeeIds[edge] = (long) (r * r * members) + 1;
+        }
+
+        // JIT 워밍업
+        FollowSuggestionIndex.build(followerIds, followeeIds, edges, 10, 10_000, pool);
+
+        // when
+        long start = System.nanoTime();
+        Snapshot snapshot = FollowSuggestionIndex.build(followerIds, followeeIds, edges, 10, 10_000, pool);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        List<Suggestion> suggestions = snapshot.suggestions(1L);
+        assertThat(suggestions).hasSize(10);
+        assertThat(suggestions).isSortedAccordingTo((a, b) -> Integer.compare(b.mutualCount(), a.mutualCount()));
+
+        reporter.publishEntry("follow-suggestion.rebuild-millis", String.valueOf(elapsedMillis));
+        reporter.publishEntry("follow-suggestion.snapshot-bytes", String.valueOf(snapshot.estimatedBytes()));
+        assertThat(elapsedMillis).isLessThan(5_000);
+        // CSR 그래프 자체(offsets + targets)는 계산 후 버려지고 스냅샷만 남음
+        assertThat(snapshot.estimatedBytes()).isLessThanOrEqualTo(snapshot.memberCount() * 100L);
+    }
+}
@@ -1,17 +1,21 @@
 package com.todolist.service;
 
+import com.todolist.auth.password.PasswordHasher;
 import com.todolist.entity.Member;
 import com.todolist.exception.DuplicateEmailException;
+import com.todolist.exception.NotFoundException;
 import com.todolist.exception.UnauthorizedException;
-import com.todolist.auth.jwt.JwtTokenProvider;
 import com.todolist.auth.jwt.dto.JwtToken;
 import com.todolist.repository.MemberRepository;
 import com.todolist.service.dto.request.MemberRequest;
+import com.todolist.service.dto.response.MemberProfileResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.Optional;
 
@@ -25,14 +29,15 @@ class MemberServiceTest {
     private MemberService memberService;
     private MemberRepository memberRepository;
     private PasswordEncoder passwordEncoder;
-    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenService refreshTokenService;
 
     @BeforeEach
     void setUp() {
         memberRepository = mock(MemberRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
-        jwtTokenProvider = mock(JwtTokenProvider.class);
-        memberService = new MemberService(memberRepository, passwordEncoder, jwtTokenProvider);
+        refreshTokenService = mock(RefreshTokenService.class);
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 10, 1_000);
+        memberService = new MemberService(memberRepository, passwordHasher, refreshTokenService, TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -90,7 +95,7 @@ class MemberServiceTest {
 
         when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(password, member.getPassword())).thenReturn(true);
-        when(jwtTokenProvider.createToken(any(Member.class)))
+        when(refreshTokenService.issue(member))
                 .thenReturn(new JwtToken("accessToken", "refreshToken"));
 
         // when
@@ -101,6 +106,32 @@ class MemberServiceTest {
         assertThat(token.refreshToken()).isEqualTo("refreshToken");
     }
 
+    @Test
+    @DisplayName("저장된 해시의 strength가 현재 설정보다 낮으면 로그인 성공 시 다시 해시해서 저장한다.")
+    void loginUpgradesPasswordHash() {
+        // given
+        String email = "test@example.com";
+        String password = "password1234";
+
+        Member member = Member.builder()
+                .email(email)
+                .password("old-hash")
+                .nickname("테스터")
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(password, "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode(password)).thenReturn("new-hash");
+
+        // when
+        memberService.login(new MemberRequest(email, password, "테스터"));
+
+        // then
+        verify(memberRepository, times(1)).updatePassword(1L, "old-hash", "new-hash");
+    }
+
     @Test
     @DisplayName("존재하지 않는 이메일일 경우 예외가 발생한다.")
     void loginFailedDueToEmailNotFound() {
@@ -138,4 +169,37 @@ class MemberServiceTest {
         // when & then
         assertThrows(UnauthorizedException.class, () -> memberService.login(request));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로필 조회 시 팔로워, 팔로잉 수는 회원의 카운터를 그대로 반환한다.")
+    void getProfile() {
+        // given
+        Member member = Member.builder()
+                .email("test@example.com")
+                .password("password1234")
+                .nickname("테스터")
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "followerCount", 3L);
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // when
+        MemberProfileResponse response = memberService.getProfile(1L);
+
+        // then
+        assertThat(response.nickname()).isEqualTo("테스터");
+        assertThat(response.followerCount()).isEqualTo(3L);
+        assertThat(response.followingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원의 프로필을 조회할 경우 예외가 발생한다.")
+    void getProfileFailedDueToNotFound() {
+        // given
+        when(memberRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> memberService.getProfile(99L));
+    }
+}
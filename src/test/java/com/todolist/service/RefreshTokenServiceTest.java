@@ -0,0 +1,235 @@
+package com.todolist.service;
+
+import com.todolist.auth.jwt.JwtTokenProvider;
+import com.todolist.auth.jwt.RefreshTokenStore;
+import com.todolist.auth.jwt.TokenRevocationList;
+import com.todolist.auth.jwt.VerifiedTokenCache;
+import com.todolist.auth.jwt.dto.JwtToken;
+import com.todolist.auth.user.CustomUserService;
+import com.todolist.entity.Member;
+import com.todolist.entity.RefreshToken;
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import com.todolist.exception.UnauthorizedException;
+import com.todolist.repository.MemberRepository;
+import com.todolist.repository.RefreshTokenRepository;
+import com.todolist.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("todolist-refresh-token-test-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private RefreshTokenService refreshTokenService;
+    private RefreshTokenRepository refreshTokenRepository;
+    private JdbcTemplate jdbcTemplate;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationList tokenRevocationList;
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, true, new VerifiedTokenCache(100), mock(CustomUserService.class));
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(
+                refreshTokenRepository, jdbcTemplate, TransactionOperations.withoutTransaction(), 100);
+        tokenRevocationList = new TokenRevocationList(
+                jdbcTemplate, mock(RevokedTokenRepository.class), TransactionOperations.withoutTransaction(), 100, 0.01);
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(buildMember("테스터")));
+        refreshTokenService = new RefreshTokenService(
+                jwtTokenProvider, refreshTokenStore, tokenRevocationList, memberRepository, SnowflakeIdGenerator.forNode(0));
+    }
+
+    @Test
+    @DisplayName("재발급하면 같은 계열의 새 토큰이 발급되고, 사용한 토큰은 해시만 저장된다.")
+    void rotate() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        when(refreshTokenRepository.markUsed(anyLong())).thenReturn(1);
+
+        // when
+        JwtToken rotated = refreshTokenService.rotate(issued.refreshToken());
+
+        // then
+        Claims before = jwtTokenProvider.resolveRefreshClaims(issued.refreshToken());
+        Claims after = jwtTokenProvider.resolveRefreshClaims(rotated.refreshToken());
+        assertThat(after.getId()).isNotEqualTo(before.getId());
+        assertThat(after.get(JwtTokenProvider.FAMILY_CLAIM, Long.class))
+                .isEqualTo(before.get(JwtTokenProvider.FAMILY_CLAIM, Long.class));
+        assertThat(jwtTokenProvider.resolveClaims(rotated.accessToken()).get("id", Long.class)).isEqualTo(1L);
+
+        // 발급한 토큰은 캐시에 있으므로 DB 조회 없이 조건부 UPDATE만 실행
+        verify(refreshTokenRepository, never()).findById(anyLong());
+        verify(refreshTokenRepository, times(1)).markUsed(Long.valueOf(before.getId()));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(), any(), any(), eq(RefreshTokenStore.hash(rotated.refreshToken())), any());
+    }
+
+    @Test
+    @DisplayName("이미 사용한 토큰으로 다시 재발급하면 같은 계열의 토큰을 모두 폐기하고, 계열에서 발급한 AccessToken도 폐기한다.")
+    void rotateFailedDueToReuse() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        when(refreshTokenRepository.markUsed(anyLong())).thenReturn(1);
+        JwtToken rotated = refreshTokenService.rotate(issued.refreshToken());
+        Long familyId = jwtTokenProvider.resolveRefreshClaims(issued.refreshToken()).get(JwtTokenProvider.FAMILY_CLAIM, Long.class);
+        JwtToken otherLogin = refreshTokenService.issue(buildMember("테스터"));
+
+        // when & then
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.refreshToken()));
+        verify(refreshTokenRepository, times(1)).markUsed(anyLong());
+        verify(refreshTokenRepository, times(1)).deleteByFamilyId(familyId);
+
+        // 탈취된 토큰으로 발급받았을 수 있는 AccessToken도 만료 전에 막힘 (다른 로그인의 토큰은 그대로)
+        assertThat(tokenRevocationList.isRevoked(jwtTokenProvider.resolveClaims(issued.accessToken()))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(jwtTokenProvider.resolveClaims(rotated.accessToken()))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(jwtTokenProvider.resolveClaims(otherLogin.accessToken()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 먼저 사용한 토큰은 조건부 UPDATE 결과로 재사용을 감지한다.")
+    void rotateFailedDueToReuseOnOtherInstance() {
+        // given (캐시에 없는 토큰)
+        RefreshTokenService otherInstance = new RefreshTokenService(jwtTokenProvider,
+                new RefreshTokenStore(mock(RefreshTokenRepository.class), jdbcTemplate, TransactionOperations.withoutTransaction(), 100),
+                tokenRevocationList, memberRepository, SnowflakeIdGenerator.forNode(1));
+        JwtToken issued = otherInstance.issue(buildMember("테스터"));
+        Claims claims = jwtTokenProvider.resolveRefreshClaims(issued.refreshToken());
+        Long tokenId = Long.valueOf(claims.getId());
+        Long familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, Long.class);
+
+        RefreshToken stored = RefreshToken.builder()
+                .id(tokenId)
+                .memberId(1L)
+                .familyId(familyId)
+                .tokenHash(RefreshTokenStore.hash(issued.refreshToken()))
+                .expiresAt(claims.getExpiration().getTime())
+                .build();
+        when(refreshTokenRepository.findById(tokenId)).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(tokenId)).thenReturn(0);
+
+        // when & then
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.refreshToken()));
+        verify(refreshTokenRepository, times(1)).deleteByFamilyId(familyId);
+    }
+
+    @Test
+    @DisplayName("재발급한 토큰에는 토큰을 발급한 당시가 아니라 현재 회원 정보가 담긴다.")
+    void rotateWithCurrentMemberInfo() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        when(refreshTokenRepository.markUsed(anyLong())).thenReturn(1);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(buildMember("새닉네임")));
+
+        // when
+        JwtToken rotated = refreshTokenService.rotate(issued.refreshToken());
+
+        // then
+        assertThat(jwtTokenProvider.resolveClaims(rotated.accessToken()).get("nickname", String.class)).isEqualTo("새닉네임");
+        assertThat(jwtTokenProvider.resolveRefreshClaims(rotated.refreshToken()).get("nickname", String.class)).isEqualTo("새닉네임");
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 토큰으로는 재발급할 수 없고, 같은 계열의 토큰은 모두 폐기된다.")
+    void rotateFailedDueToDeletedMember() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        Long familyId = jwtTokenProvider.resolveRefreshClaims(issued.refreshToken()).get(JwtTokenProvider.FAMILY_CLAIM, Long.class);
+        when(refreshTokenRepository.markUsed(anyLong())).thenReturn(1);
+        when(memberRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.refreshToken()));
+        verify(refreshTokenRepository, times(1)).deleteByFamilyId(familyId);
+    }
+
+    @Test
+    @DisplayName("AccessToken이나 저장되지 않은 토큰으로는 재발급할 수 없다.")
+    void rotateFailedDueToInvalidToken() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        String unknown = jwtTokenProvider.createRefreshToken(1L, "test@example.com", "테스터", 1L, 2L,
+                System.currentTimeMillis() + 60_000);
+        when(refreshTokenRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.accessToken()));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(unknown));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(null));
+        verify(refreshTokenRepository, never()).markUsed(anyLong());
+    }
+
+    @Test
+    @DisplayName("RefreshToken으로는 API 인증을 할 수 없다.")
+    void refreshTokenIsNotAccessToken() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+
+        // when & then
+        assertThat(jwtTokenProvider.isAccessToken(jwtTokenProvider.resolveClaims(issued.accessToken()))).isTrue();
+        assertThat(jwtTokenProvider.isAccessToken(jwtTokenProvider.resolveClaims(issued.refreshToken()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 AccessToken은 폐기 목록에 들어가고, 본인의 RefreshToken은 계열째 삭제된다.")
+    void logout() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        Claims accessClaims = jwtTokenProvider.resolveClaims(issued.accessToken());
+        Long familyId = jwtTokenProvider.resolveRefreshClaims(issued.refreshToken()).get(JwtTokenProvider.FAMILY_CLAIM, Long.class);
+
+        // when
+        refreshTokenService.logout(1L, issued.accessToken(), issued.refreshToken());
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(accessClaims)).isTrue();
+        verify(jdbcTemplate, times(1)).update(anyString(), eq(Long.valueOf(accessClaims.getId())), eq(accessClaims.getExpiration().getTime()));
+        verify(refreshTokenRepository, times(1)).deleteByFamilyId(familyId);
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.refreshToken()));
+    }
+
+    @Test
+    @DisplayName("다른 회원의 RefreshToken을 함께 보내면 AccessToken만 폐기한다.")
+    void logoutIgnoresOthersRefreshToken() {
+        // given
+        JwtToken issued = refreshTokenService.issue(buildMember("테스터"));
+        String othersRefreshToken = jwtTokenProvider.createRefreshToken(2L, "other@example.com", "다른회원", 10L, 11L,
+                System.currentTimeMillis() + 60_000);
+
+        // when
+        refreshTokenService.logout(1L, issued.accessToken(), othersRefreshToken);
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(jwtTokenProvider.resolveClaims(issued.accessToken()))).isTrue();
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyLong());
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private Member buildMember(String nickname) {
+        Member member = Member.builder()
+                .email("test@example.com")
+                .password("password1234")
+                .nickname(nickname)
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        return member;
+    }
+}
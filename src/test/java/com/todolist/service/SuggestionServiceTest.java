@@ -0,0 +1,87 @@
+package com.todolist.service;
+
+import com.todolist.entity.Member;
+import com.todolist.exception.BadRequestException;
+import com.todolist.repository.FollowRepository;
+import com.todolist.repository.MemberRepository;
+import com.todolist.service.FollowSuggestionIndex.Suggestion;
+import com.todolist.service.dto.response.SuggestionListResponse;
+import com.todolist.service.dto.response.SuggestionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SuggestionServiceTest {
+
+    private SuggestionService suggestionService;
+    private FollowSuggestionIndex followSuggestionIndex;
+    private FollowRepository followRepository;
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        followSuggestionIndex = mock(FollowSuggestionIndex.class);
+        followRepository = mock(FollowRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        FollowGraphIndex followGraphIndex = new FollowGraphIndex(followRepository, 100, 600);
+        suggestionService = new SuggestionService(followSuggestionIndex, followGraphIndex, memberRepository);
+        when(followSuggestionIndex.topN()).thenReturn(10);
+    }
+
+    @Test
+    @DisplayName("미리 계산된 추천 중 스냅샷 이후에 팔로우한 회원과 탈퇴한 회원은 제외한다.")
+    void getSuggestions() {
+        // given (3번은 이미 팔로우, 5번은 탈퇴)
+        when(followSuggestionIndex.suggestions(1L)).thenReturn(List.of(
+                new Suggestion(3L, 5), new Suggestion(4L, 3), new Suggestion(5L, 2), new Suggestion(6L, 1)));
+        when(followRepository.findFolloweeIdsByFollowerId(1L)).thenReturn(List.of(2L, 3L));
+        when(memberRepository.findAllById(List.of(4L, 5L, 6L))).thenReturn(List.of(buildMember(6L), buildMember(4L)));
+
+        // when
+        SuggestionListResponse response = suggestionService.getSuggestions(1L, 10);
+
+        // then
+        assertThat(response.suggestions()).extracting(SuggestionResponse::id).containsExactly(4L, 6L);
+        assertThat(response.suggestions()).extracting(SuggestionResponse::mutualCount).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("추천할 회원이 없으면 회원을 조회하지 않는다.")
+    void getSuggestionsWithoutCandidates() {
+        // given
+        when(followSuggestionIndex.suggestions(1L)).thenReturn(List.of());
+
+        // when
+        SuggestionListResponse response = suggestionService.getSuggestions(1L, 10);
+
+        // then
+        assertThat(response.suggestions()).isEmpty();
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("미리 계산한 수보다 많은 추천을 요청할 경우 예외가 발생한다.")
+    void getSuggestionsFailedDueToSize() {
+        assertThrows(BadRequestException.class, () -> suggestionService.getSuggestions(1L, 11));
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private Member buildMember(Long id) {
+        Member member = Member.builder()
+                .email("member" + id + "@example.com")
+                .password("password1234")
+                .nickname("회원" + id)
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
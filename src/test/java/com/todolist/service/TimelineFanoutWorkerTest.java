@@ -0,0 +1,202 @@
+package com.todolist.service;
+
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import com.todolist.repository.FollowRepository;
+import com.todolist.repository.TimelineEntryRepository;
+import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.FollowEdgeRow;
+import com.todolist.repository.dto.TodoOwnerRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TimelineFanoutWorkerTest {
+
+    private static final int CAPACITY = 500;
+
+    private TimelineFanoutWorker worker;
+    private FollowRepository followRepository;
+    private TodoRepository todoRepository;
+    private TimelineEntryRepository timelineEntryRepository;
+    private CelebrityRegistry celebrityRegistry;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        followRepository = mock(FollowRepository.class);
+        todoRepository = mock(TodoRepository.class);
+        timelineEntryRepository = mock(TimelineEntryRepository.class);
+        celebrityRegistry = mock(CelebrityRegistry.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        worker = buildWorker(100);
+    }
+
+    @Test
+    @DisplayName("작성된 투두는 작성자의 팔로워 타임라인에 한 번씩 들어가고, 팔로워가 많은 회원의 투두는 복사하지 않는다.")
+    @SuppressWarnings("unchecked")
+    void fanOutCreatedTodos() {
+        // given (2번 회원의 팔로워는 10, 11번 / 3번 회원은 팔로워가 많은 회원)
+        when(followRepository.findFollowerIdsByFolloweeId(2L)).thenReturn(List.of(10L, 11L));
+        when(celebrityRegistry.isCelebrity(3L)).thenReturn(true);
+        when(todoRepository.findOwnerRowsByIdIn(List.of(100L))).thenReturn(List.of(ownerRow(100L, 2L)));
+
+        // when (같은 투두의 이벤트가 두 번 들어와도 한 번만 반영)
+        worker.todoCreated(100L, 2L);
+        worker.todoCreated(100L, 2L);
+        worker.todoCreated(200L, 3L);
+        worker.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[1]).containsExactly(10L, 11L);
+        assertThat(rows.getValue()).extracting(row -> row[2]).containsOnly(100L);
+
+        verify(timelineEntryRepository).deleteByTodoIdIn(List.of(100L));
+        verify(followRepository, never()).findFollowerIdsByFolloweeId(3L);
+        assertThat(worker.pendingEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로우하면 대상의 최근 투두를 타임라인에 채우고, 언팔로우하면 대상의 투두를 타임라인에서 제거한다.")
+    @SuppressWarnings("unchecked")
+    void backfillAndRemoveOnFollowChanges() {
+        // given
+        when(todoRepository.findIdsByMemberIdBefore(2L, Long.MAX_VALUE, PageRequest.of(0, 50))).thenReturn(List.of(5L, 4L));
+
+        // when
+        worker.followed(1L, 2L);
+        worker.unfollowed(1L, 3L);
+        worker.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[2]).containsExactly(5L, 4L);
+        assertThat(rows.getValue()).extracting(row -> row[3]).containsOnly(2L);
+
+        verify(timelineEntryRepository).deleteByOwnerIdAndAuthorId(1L, 2L);
+        verify(timelineEntryRepository).deleteByOwnerIdAndAuthorId(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("백필은 모든 팔로우 관계를 PK 순서대로 나눠 읽고, 관계마다 팔로우 대상의 최근 투두를 채운다.")
+    void backfillAllFollows() {
+        // given (1 -> 2, 1 -> 3, 4 -> 2 팔로우 관계를 2개씩 읽음)
+        when(followRepository.findEdgesAfter(Long.MIN_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new FollowEdgeRow(10L, 1L, 2L), new FollowEdgeRow(11L, 1L, 3L)));
+        when(followRepository.findEdgesAfter(11L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new FollowEdgeRow(12L, 4L, 2L)));
+        when(todoRepository.findIdsByMemberIdBefore(eq(2L), eq(Long.MAX_VALUE), any())).thenReturn(List.of(5L));
+        when(todoRepository.findIdsByMemberIdBefore(eq(3L), eq(Long.MAX_VALUE), any())).thenReturn(List.of(6L));
+
+        // when
+        int follows = worker.backfillAll(2);
+
+        // then
+        assertThat(follows).isEqualTo(3);
+        verify(followRepository).findEdgesAfter(12L, PageRequest.of(0, 2));
+        verify(timelineEntryRepository).deleteByOwnerIdAndAuthorId(1L, 2L);
+        verify(timelineEntryRepository).deleteByOwnerIdAndAuthorId(1L, 3L);
+        verify(timelineEntryRepository).deleteByOwnerIdAndAuthorId(4L, 2L);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("큐에서 기다리는 동안 삭제된 투두는 타임라인에 다시 넣지 않는다.")
+    void skipDeletedTodos() {
+        // given (100번 투두는 이미 삭제됨)
+        when(followRepository.findFollowerIdsByFolloweeId(2L)).thenReturn(List.of(10L));
+        when(todoRepository.findOwnerRowsByIdIn(List.of(100L))).thenReturn(List.of());
+
+        // when
+        worker.todoCreated(100L, 2L);
+        worker.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(timelineEntryRepository, never()).deleteByTodoIdIn(any());
+    }
+
+    @Test
+    @DisplayName("묶음 처리에 실패하면 이벤트를 하나씩 다시 처리하고, 그래도 실패한 이벤트는 다음 주기에 다시 시도한다.")
+    void isolateAndRetryFailedEvents() {
+        // given (3번 회원 언팔로우 반영만 계속 실패)
+        when(timelineEntryRepository.deleteByOwnerIdAndAuthorId(1L, 3L))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // when
+        worker.unfollowed(1L, 2L);
+        worker.unfollowed(1L, 3L);
+        worker.flush();
+
+        // then (묶음 1번 + 하나씩 1번씩 -> 2번 회원은 한 번 성공, 3번 회원은 재시도 대기)
+        verify(timelineEntryRepository, times(2)).deleteByOwnerIdAndAuthorId(1L, 2L);
+        assertThat(worker.pendingEvents()).isEqualTo(1);
+
+        // when (최대 시도 횟수를 넘으면 버림)
+        worker.flush();
+        worker.flush();
+
+        // then
+        verify(timelineEntryRepository, times(2)).deleteByOwnerIdAndAuthorId(1L, 2L);
+        assertThat(worker.pendingEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 이벤트를 버린다.")
+    void dropEventsWhenQueueIsFull() {
+        // given
+        TimelineFanoutWorker smallWorker = buildWorker(1);
+
+        // when
+        smallWorker.todoCreated(100L, 2L);
+        smallWorker.todoCreated(101L, 2L);
+
+        // then
+        assertThat(smallWorker.pendingEvents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목이 추가된 타임라인은 최근 항목만 남기고 오래된 항목을 삭제한다.")
+    void trimTimeline() {
+        // given
+        when(followRepository.findFollowerIdsByFolloweeId(2L)).thenReturn(List.of(10L));
+        when(todoRepository.findOwnerRowsByIdIn(List.of(100L))).thenReturn(List.of(ownerRow(100L, 2L)));
+        when(timelineEntryRepository.findTodoIdsByOwnerId(10L, PageRequest.of(CAPACITY, 1))).thenReturn(List.of(7L));
+        worker.todoCreated(100L, 2L);
+        worker.flush();
+
+        // when
+        worker.trim();
+        worker.trim();
+
+        // then (두 번째 정리에서는 새로 추가된 항목이 없으므로 조회하지 않음)
+        verify(timelineEntryRepository, times(1)).findTodoIdsByOwnerId(10L, PageRequest.of(CAPACITY, 1));
+        verify(timelineEntryRepository).deleteByOwnerIdAndTodoIdAtMost(10L, 7L);
+    }
+
+    /**
+     * 편의 메소드
+     */
+    private TodoOwnerRow ownerRow(Long todoId, Long memberId) {
+        return new TodoOwnerRow(todoId, memberId, TodoStatus.NOT_STARTED);
+    }
+
+    private TimelineFanoutWorker buildWorker(int queueCapacity) {
+        return new TimelineFanoutWorker(followRepository, todoRepository, timelineEntryRepository, celebrityRegistry,
+                jdbcTemplate, TransactionOperations.withoutTransaction(), SnowflakeIdGenerator.forNode(0),
+                queueCapacity, 1000, CAPACITY, 50);
+    }
+}
@@ -0,0 +1,118 @@
+package com.todolist.service;
+
+import com.todolist.entity.Member;
+import com.todolist.entity.Todo;
+import com.todolist.entity.enums.TodoStatus;
+import com.todolist.exception.TodoDetailLimitExceededException;
+import com.todolist.repository.MemberRepository;
+import com.todolist.repository.TodoDetailRepository;
+import com.todolist.repository.TodoRepository;
+import com.todolist.service.dto.request.TodoRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 세부 할 일 개수 제한 동시성 테스트
+ * - 각 요청이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:detail-limit;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoDetailService.class, TodoVersionTracker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoDetailLimitConcurrencyTest {
+
+    private static final int WRITERS = 64;
+
+    @Autowired
+    private TodoDetailService todoDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoDetailRepository todoDetailRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        todoDetailRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("64개의 요청이 동시에 세부 할 일을 등록해도 3개까지만 등록된다.")
+    void createTodoDetailConcurrently() throws Exception {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .email("test@example.com")
+                .password("password1234")
+                .nickname("tester")
+                .build());
+        Todo todo = todoRepository.save(Todo.builder()
+                .member(member)
+                .todoList("상위 할 일")
+                .status(TodoStatus.NOT_STARTED)
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < WRITERS; i++) {
+            TodoRequest request = new TodoRequest("세부 할 일 " + i);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    todoDetailService.createTodoDetail(member.getId(), todo.getId(), request);
+                    return true;
+                } catch (TodoDetailLimitExceededException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(todoDetailRepository.count()).isEqualTo(3);
+        assertThat(todoRepository.findById(todo.getId()))
+                .hasValueSatisfying(saved -> assertThat(saved.getDetailCount()).isEqualTo(3));
+    }
+}
@@ -11,8 +11,13 @@ import com.todolist.exception.NotFoundException;
 import com.todolist.exception.TodoDetailLimitExceededException;
 import com.todolist.repository.TodoDetailRepository;
 import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.TodoDetailOwnerRow;
+import com.todolist.repository.dto.TodoDetailView;
+import com.todolist.service.dto.request.TodoDetailStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoDetailStatusUpdateRequest;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
+import com.todolist.service.dto.response.StatusUpdateResultResponse;
 import com.todolist.service.dto.response.TodoDetailResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,12 +38,14 @@ class TodoDetailServiceTest {
     private TodoDetailService todoDetailService;
     private TodoRepository todoRepository;
     private TodoDetailRepository todoDetailRepository;
+    private TodoVersionTracker todoVersionTracker;
 
     @BeforeEach
     void setUp() {
         todoRepository = mock(TodoRepository.class);
         todoDetailRepository = mock(TodoDetailRepository.class);
-        todoDetailService = new TodoDetailService(todoRepository, todoDetailRepository);
+        todoVersionTracker = new TodoVersionTracker(100);
+        todoDetailService = new TodoDetailService(todoRepository, todoDetailRepository, todoVersionTracker);
     }
 
     /**
@@ -53,22 +60,26 @@ class TodoDetailServiceTest {
 
         Todo parentTodo = buildParentTodo(member, "상위 할 일");
 
+        ReflectionTestUtils.setField(parentTodo, "id", 1L);
+
         Long parentTodoId = parentTodo.getId();
-        when(todoRepository.findById(parentTodoId)).thenReturn(Optional.of(parentTodo));
-        when(todoDetailRepository.countByTodoId(parentTodoId)).thenReturn(1L);
+        when(todoRepository.increaseDetailCount(parentTodoId, member.getId(), 3)).thenReturn(1);
+        when(todoRepository.getReferenceById(parentTodoId)).thenReturn(parentTodo);
 
         TodoRequest request = new TodoRequest("세부 할 일");
+        long version = todoVersionTracker.current(member.getId());
 
         // when
-        TodoDetailResponse response = todoDetailService.createTodoDetail(member, parentTodoId, request);
+        TodoDetailResponse response = todoDetailService.createTodoDetail(member.getId(), parentTodoId, request);
 
         // then
-        verify(todoRepository, times(1)).findById(parentTodoId);
-        verify(todoDetailRepository, times(1)).countByTodoId(parentTodoId);
+        verify(todoRepository, times(1)).increaseDetailCount(parentTodoId, member.getId(), 3); // 개수 확인과 증가를 UPDATE 한 번으로
+        verify(todoRepository, never()).findById(parentTodoId);
         verify(todoDetailRepository, times(1)).save(any(TodoDetail.class));
 
         assertThat(response.parentId()).isEqualTo(parentTodoId);
         assertThat(response.status()).isEqualTo(TodoDetailStatus.NOT_STARTED.getKoreanStatus());
+        assertThat(todoVersionTracker.current(member.getId())).isNotEqualTo(version); // 목록 캐시 무효화
     }
 
     @Test
@@ -84,7 +95,7 @@ class TodoDetailServiceTest {
         when(todoRepository.findById(ghostTodoParentId)).thenReturn(Optional.empty());
 
         // when & then
-        assertThrows(NotFoundException.class, () -> todoDetailService.createTodoDetail(member, ghostTodoParentId, request));
+        assertThrows(NotFoundException.class, () -> todoDetailService.createTodoDetail(member.getId(), ghostTodoParentId, request));
     }
 
     /**
@@ -108,7 +119,7 @@ class TodoDetailServiceTest {
         when(todoRepository.findById(parentTodoId)).thenReturn(Optional.of(otherTodo));
 
         // when & then
-        assertThrows(ForbiddenAccessException.class, () -> todoDetailService.createTodoDetail(me, parentTodoId, request));
+        assertThrows(ForbiddenAccessException.class, () -> todoDetailService.createTodoDetail(me.getId(), parentTodoId, request));
     }
 
     @Test
@@ -123,11 +134,12 @@ class TodoDetailServiceTest {
         TodoRequest request = new TodoRequest("초과 세부 할 일");
 
         Long parentTodoId = parentTodo.getId();
+        when(todoRepository.increaseDetailCount(parentTodoId, member.getId(), 3)).thenReturn(0); // 이미 3개
         when(todoRepository.findById(parentTodoId)).thenReturn(Optional.of(parentTodo));
-        when(todoDetailRepository.countByTodoId(parentTodoId)).thenReturn(3L);
 
         // when & then
-        assertThrows(TodoDetailLimitExceededException.class, () -> todoDetailService.createTodoDetail(member, parentTodoId, request));
+        assertThrows(TodoDetailLimitExceededException.class, () -> todoDetailService.createTodoDetail(member.getId(), parentTodoId, request));
+        verify(todoDetailRepository, never()).save(any(TodoDetail.class));
     }
 
     /**
@@ -137,25 +149,24 @@ class TodoDetailServiceTest {
     @DisplayName("본인 TODO의 세부 할 일의 진행 상태를 변경할 수 있다.")
     void updateTodoDetailStatus() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-        ReflectionTestUtils.setField(member, "id", 1L);
-
-        Todo parentTodo = buildParentTodo(member, "상위 할 일");
-
-        TodoDetail todoDetail = buildTodoDetail(parentTodo, "하위 할 일");
+        Long memberId = 1L;
+        Long todoDetailId = 1L;
 
         TodoDetailStatusUpdateRequest request = new TodoDetailStatusUpdateRequest(TodoDetailStatus.COMPLETED);
 
-        when(todoDetailRepository.findById(todoDetail.getId())).thenReturn(Optional.of(todoDetail));
-        when(todoRepository.findById(parentTodo.getId())).thenReturn(Optional.of(parentTodo));
+        when(todoDetailRepository.updateStatusByIdAndMemberId(todoDetailId, memberId, TodoDetailStatus.COMPLETED)).thenReturn(1);
+        when(todoDetailRepository.findViewById(todoDetailId))
+                .thenReturn(Optional.of(new TodoDetailView(10L, todoDetailId, "하위 할 일", TodoDetailStatus.COMPLETED)));
 
         // when
-        TodoDetailResponse response = todoDetailService.updateTodoDetailStatus(member, todoDetail.getId(), request);
+        TodoDetailResponse response = todoDetailService.updateTodoDetailStatus(memberId, todoDetailId, request);
 
         // then
-        verify(todoDetailRepository, times(1)).findById(todoDetail.getId());
-        verify(todoRepository, times(1)).findById(parentTodo.getId());
+        verify(todoDetailRepository, times(1)).updateStatusByIdAndMemberId(todoDetailId, memberId, TodoDetailStatus.COMPLETED);
+        verify(todoDetailRepository, never()).findById(todoDetailId); // 엔티티 조회 없이 UPDATE
+        verify(todoRepository, never()).findById(any()); // 부모 투두도 조회하지 않음
 
+        assertThat(response.parentId()).isEqualTo(10L);
         assertThat(response.status()).isEqualTo("진행 완료");
     }
 
@@ -163,40 +174,59 @@ class TodoDetailServiceTest {
     @DisplayName("존재하지 않는 세부 할 일의 상태 변경을 요청할 경우 예외가 발생한다.")
     void updateTodoDetailStatusFailedDueToTodoDetailNotFound() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-
         Long ghostTodoDetailId = 999L;
 
-        when(todoDetailRepository.findById(ghostTodoDetailId)).thenReturn(Optional.empty());
+        when(todoDetailRepository.updateStatusByIdAndMemberId(ghostTodoDetailId, 1L, TodoDetailStatus.COMPLETED)).thenReturn(0);
+        when(todoDetailRepository.existsById(ghostTodoDetailId)).thenReturn(false);
 
         TodoDetailStatusUpdateRequest request = new TodoDetailStatusUpdateRequest(TodoDetailStatus.COMPLETED);
 
         // when & then
-        assertThrows(NotFoundException.class, () -> todoDetailService.updateTodoDetailStatus(member, ghostTodoDetailId, request));
+        assertThrows(NotFoundException.class, () -> todoDetailService.updateTodoDetailStatus(1L, ghostTodoDetailId, request));
     }
 
     @Test
     @DisplayName("다른 사용자의 세부 할 일의 상태 변경을 시도할 경우 예외가 발생한다.")
     void updateTodoDetailStatusFailedDueToForbidden() {
         // given
-        Member other = buildMember("other@example.com", "password1234");
-        ReflectionTestUtils.setField(other, "id", 1L);
+        Long myId = 2L;
+        Long otherTodoDetailId = 1L;
 
-        Member me = buildMember("me@example.com", "password1234");
-        ReflectionTestUtils.setField(me, "id", 2L);
+        when(todoDetailRepository.updateStatusByIdAndMemberId(otherTodoDetailId, myId, TodoDetailStatus.COMPLETED)).thenReturn(0);
+        when(todoDetailRepository.existsById(otherTodoDetailId)).thenReturn(true);
 
-        Todo otherTodo = buildParentTodo(other, "다른 사람의 할 일");
+        TodoDetailStatusUpdateRequest request = new TodoDetailStatusUpdateRequest(TodoDetailStatus.COMPLETED);
 
-        TodoDetail otherTodoDetail = buildTodoDetail(otherTodo, "다른 사람의 하위 할 일");
+        // when & then
+        assertThrows(ForbiddenAccessException.class, () -> todoDetailService.updateTodoDetailStatus(myId, otherTodoDetailId, request));
+    }
 
-        TodoDetailStatusUpdateRequest request = new TodoDetailStatusUpdateRequest(TodoDetailStatus.COMPLETED);
+    @Test
+    @DisplayName("여러 세부 할 일의 상태를 한 번에 변경할 수 있고, 다른 사용자의 세부 할 일은 변경되지 않는다.")
+    void updateTodoDetailStatuses() {
+        // given
+        Long memberId = 1L;
+        List<TodoDetailStatusBatchUpdateRequest> requests = List.of(
+                new TodoDetailStatusBatchUpdateRequest(1L, TodoDetailStatus.COMPLETED),
+                new TodoDetailStatusBatchUpdateRequest(2L, TodoDetailStatus.COMPLETED),
+                new TodoDetailStatusBatchUpdateRequest(3L, TodoDetailStatus.COMPLETED) // 다른 사람의 세부 할 일
+        );
+
+        when(todoDetailRepository.findOwnerRowsByIdIn(anyCollection())).thenReturn(List.of(
+                new TodoDetailOwnerRow(1L, memberId),
+                new TodoDetailOwnerRow(2L, memberId),
+                new TodoDetailOwnerRow(3L, 2L)
+        ));
 
-        Long otherTodoDetailId = otherTodoDetail.getId();
-        when(todoDetailRepository.findById(otherTodoDetailId)).thenReturn(Optional.of(otherTodoDetail));
-        when(todoRepository.findById(otherTodo.getId())).thenReturn(Optional.of(otherTodo));
+        // when
+        StatusBatchUpdateResponse response = todoDetailService.updateTodoDetailStatuses(memberId, requests);
 
-        // when & then
-        assertThrows(ForbiddenAccessException.class, () -> todoDetailService.updateTodoDetailStatus(me, otherTodoDetailId, request));
+        // then
+        verify(todoDetailRepository, times(1)).updateStatusByIdInAndMemberId(List.of(1L, 2L), memberId, TodoDetailStatus.COMPLETED);
+        verify(todoDetailRepository, never()).findById(any()); // 엔티티 조회 없음
+
+        assertThat(response.updatedCount()).isEqualTo(2);
+        assertThat(response.results().getLast().result()).isEqualTo(StatusUpdateResultResponse.Result.FORBIDDEN);
     }
 
     /**
@@ -222,7 +252,7 @@ class TodoDetailServiceTest {
         when(todoRepository.findById(parentTodo.getId())).thenReturn(Optional.of(parentTodo));
 
         // when
-        todoDetailService.deleteTodoDetail(member, todoDetailId);
+        todoDetailService.deleteTodoDetail(member.getId(), todoDetailId);
 
         // then
         verify(todoDetailRepository, times(1)).findAllById(todoDetailId);
@@ -253,12 +283,13 @@ class TodoDetailServiceTest {
         when(todoRepository.findById(parentTodo.getId())).thenReturn(Optional.of(parentTodo));
 
         // when
-        todoDetailService.deleteTodoDetail(member, todoDetailIds);
+        todoDetailService.deleteTodoDetail(member.getId(), todoDetailIds);
 
         // then
         verify(todoDetailRepository, times(1)).findAllById(todoDetailIds);
         verify(todoDetailRepository, times(1)).delete(todoDetail1);
         verify(todoDetailRepository, times(1)).delete(todoDetail2);
+        verify(todoRepository, times(1)).decreaseDetailCount(parentTodo.getId(), 2); // 부모 투두별로 한 번에 감소
     }
 
     @Test
@@ -273,7 +304,7 @@ class TodoDetailServiceTest {
         when(todoDetailRepository.findAllById(ghostTodoDetailId)).thenReturn(List.of());
 
         // when & then
-        assertThrows(NotFoundException.class, () -> todoDetailService.deleteTodoDetail(member, ghostTodoDetailId));
+        assertThrows(NotFoundException.class, () -> todoDetailService.deleteTodoDetail(member.getId(), ghostTodoDetailId));
     }
 
 
@@ -300,7 +331,7 @@ class TodoDetailServiceTest {
         when(todoRepository.findById(otherTodo.getId())).thenReturn(Optional.of(otherTodo));
 
         // when & then
-        assertThrows(ForbiddenAccessException.class, () -> todoDetailService.deleteTodoDetail(me, todoDetailIds));
+        assertThrows(ForbiddenAccessException.class, () -> todoDetailService.deleteTodoDetail(me.getId(), todoDetailIds));
     }
 
     @Test
@@ -322,7 +353,7 @@ class TodoDetailServiceTest {
         when(todoRepository.findById(parentTodo.getId())).thenReturn(Optional.of(parentTodo));
 
         // when & then
-        assertThrows(InvalidDeleteException.class, () -> todoDetailService.deleteTodoDetail(member, todoDetailIds));
+        assertThrows(InvalidDeleteException.class, () -> todoDetailService.deleteTodoDetail(member.getId(), todoDetailIds));
     }
 
     /**
@@ -0,0 +1,152 @@
+package com.todolist.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TodoHitCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TodoHitCounter counter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        counter = new TodoHitCounter(jdbcTemplate, 2);
+        registry = new SimpleMeterRegistry();
+        counter.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("쌓인 조회수는 투두별 증가분 하나씩 배치로 반영되고, 반영한 투두는 버퍼에서 제거된다.")
+    @SuppressWarnings("unchecked")
+    void flushPendingIncrements() {
+        // given
+        counter.increase(1L);
+        counter.increase(1L);
+        counter.increase(2L);
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).extracting(args -> args[1] + "=" + args[0]).containsExactlyInAnyOrder("1=2", "2=1");
+        assertThat(counter.pendingIncrements()).isZero();
+        assertThat(registry.get("todo.hit.flushed").functionCounter().count()).isEqualTo(3);
+
+        // when (조회가 없던 주기에는 DB를 호출하지 않음)
+        counter.flush();
+        counter.increase(3L);
+        counter.increase(4L);
+
+        // then (빈 자리가 생겨 새 투두도 버퍼에 들어감)
+        verifyNoMoreInteractions(jdbcTemplate);
+        assertThat(counter.pendingIncrements()).isEqualTo(2);
+        assertThat(registry.get("todo.hit.dropped").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 투두의 조회수는 버리고, 이미 버퍼에 있는 투두의 조회수는 계속 센다.")
+    void dropWhenBufferIsFull() {
+        // when
+        counter.increase(1L);
+        counter.increase(2L);
+        counter.increase(3L);
+        counter.increase(1L);
+
+        // then
+        assertThat(counter.pendingIncrements()).isEqualTo(3);
+        assertThat(registry.get("todo.hit.dropped").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 조회수는 버퍼로 되돌아가 다음 주기에 함께 반영된다.")
+    @SuppressWarnings("unchecked")
+    void requeueOnDataAccessException() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .thenReturn(new int[]{1});
+        counter.increase(1L);
+        counter.increase(1L);
+
+        // when
+        counter.flush();
+        counter.increase(1L);
+
+        // then
+        assertThat(counter.pendingIncrements()).isEqualTo(3);
+        assertThat(registry.get("todo.hit.flushed").functionCounter().count()).isZero();
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).extracting(args -> args[0]).containsExactly(3L);
+        assertThat(counter.pendingIncrements()).isZero();
+        assertThat(registry.get("todo.hit.flushed").functionCounter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회와 flush가 동시에 일어나도 증가분이 사라지지 않는다.")
+    void noLostUpdatesWhileFlushing() throws Exception {
+        // given
+        AtomicLong written = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(args -> written.addAndGet((Long) args[0]));
+            return new int[batch.size()];
+        });
+        counter = new TodoHitCounter(jdbcTemplate, 100);
+
+        int readers = 8;
+        int hitsPerReader = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when (같은 투두 몇 개에 조회가 몰리는 동안 flush가 항목을 빼고 증가분을 꺼냄)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < hitsPerReader; i++) {
+                    counter.increase((long) (i % 4));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            counter.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        counter.flush();
+
+        // then
+        assertThat(written.get()).isEqualTo((long) readers * hitsPerReader);
+        assertThat(counter.pendingIncrements()).isZero();
+    }
+}
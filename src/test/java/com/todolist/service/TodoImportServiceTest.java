@@ -0,0 +1,140 @@
+package com.todolist.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todolist.entity.Member;
+import com.todolist.entity.id.SnowflakeIdGenerator;
+import com.todolist.exception.BadRequestException;
+import com.todolist.service.dto.response.TodoImportResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class TodoImportServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private TodoImportService todoImportService;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 트랜잭션 안에서 실행되도록 청크별 트랜잭션은 생략
+        todoImportService = new TodoImportService(
+                jdbcTemplate, new ObjectMapper(), TransactionOperations.withoutTransaction(),
+                new TodoVersionTracker(100), SnowflakeIdGenerator.forNode(0));
+
+        Member member = Member.builder()
+                .email("test@example.com")
+                .password("password")
+                .nickname("테스트")
+                .build();
+        memberId = em.persistAndFlush(member).getId();
+    }
+
+    @Test
+    @DisplayName("JSON 배열의 투두와 세부 할 일을 저장하고, 세부 할 일이 3개를 넘는 항목은 건너뛴다.")
+    void importJsonArray() {
+        // given
+        String body = """
+                [
+                  {"todo": "투두1", "details": ["세부1", "세부2"]},
+                  {"todo": "투두2", "status": "COMPLETED", "details": ["a", "b", "c", "d"]},
+                  {"todo": "투두3"}
+                ]
+                """;
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(memberId, stream(body));
+
+        // then
+        assertThat(response.importedTodos()).isEqualTo(2);
+        assertThat(response.importedDetails()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.errors()).containsExactly("2번째 항목: 세부 할 일은 최대 3개까지만 추가할 수 있습니다.");
+
+        assertThat(jdbcTemplate.queryForList("SELECT todo_list FROM todo WHERE member_id = ? ORDER BY id", String.class, memberId))
+                .containsExactly("투두1", "투두3");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT detail_count FROM todo WHERE member_id = ? AND todo_list = '투두1'", Integer.class, memberId))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("NDJSON 본문을 청크 단위로 나눠 모두 저장한다.")
+    void importNdjson() {
+        // given (청크 크기 1000을 넘도록 2500개)
+        String body = IntStream.rangeClosed(1, 2500)
+                .mapToObj(i -> "{\"todo\": \"투두" + i + "\", \"status\": \"IN_PROGRESS\", \"details\": [\"세부\"]}")
+                .collect(Collectors.joining("\n"));
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(memberId, stream(body));
+
+        // then
+        assertThat(response.importedTodos()).isEqualTo(2500);
+        assertThat(response.importedDetails()).isEqualTo(2500);
+        assertThat(response.rejected()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM todo_detail d JOIN todo t ON d.todo_id = t.id WHERE t.member_id = ?", Long.class, memberId))
+                .isEqualTo(2500L);
+    }
+
+    @Test
+    @DisplayName("항목으로 바꿀 수 없는 값이 있으면 그 항목만 건너뛰고 나머지 항목은 저장한다.")
+    void importSkipsUnmappableItems() {
+        // given
+        String body = """
+                {"todo": "투두1"}
+                {"todo": "투두2", "status": "UNKNOWN"}
+                {"todo": "투두3", "details": {"세부": 1}}
+                {"todo": "투두4", "details": ["세부"]}
+                """;
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(memberId, stream(body));
+
+        // then
+        assertThat(response.importedTodos()).isEqualTo(2);
+        assertThat(response.importedDetails()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(2);
+        assertThat(response.errors()).containsExactly(
+                "2번째 항목: 형식이 올바르지 않습니다. (status)",
+                "3번째 항목: 형식이 올바르지 않습니다. (details)");
+        assertThat(jdbcTemplate.queryForList("SELECT todo_list FROM todo WHERE member_id = ? ORDER BY id", String.class, memberId))
+                .containsExactly("투두1", "투두4");
+    }
+
+    @Test
+    @DisplayName("본문을 읽을 수 없으면 BadRequestException이 발생한다.")
+    void importMalformedBody() {
+        // given
+        String body = "[{\"todo\": \"투두1\"}, {\"todo\": ";
+
+        // when & then
+        assertThatThrownBy(() -> todoImportService.importTodos(memberId, stream(body)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("2번째 항목을 읽을 수 없습니다. 앞선 투두 0개는 저장되었습니다.");
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,31 +2,46 @@ package com.todolist.service;
 
 import com.todolist.entity.Member;
 import com.todolist.entity.Todo;
-import com.todolist.entity.TodoDetail;
 import com.todolist.entity.enums.TodoDetailStatus;
 import com.todolist.entity.enums.TodoStatus;
+import com.todolist.exception.BadRequestException;
 import com.todolist.exception.ForbiddenAccessException;
 import com.todolist.exception.InvalidDeleteException;
 import com.todolist.exception.NotFoundException;
+import com.todolist.repository.MemberRepository;
+import com.todolist.repository.TodoDetailRepository;
 import com.todolist.repository.TodoRepository;
+import com.todolist.repository.dto.TodoDetailView;
+import com.todolist.repository.dto.TodoOwnerRow;
+import com.todolist.repository.dto.TodoView;
+import com.todolist.repository.dto.TodoViewCursorSlice;
+import com.todolist.service.cursor.CursorCodec;
 import com.todolist.service.dto.request.TodoRequest;
+import com.todolist.service.dto.request.TodoStatusBatchUpdateRequest;
 import com.todolist.service.dto.request.TodoStatusUpdateRequest;
+import com.todolist.service.dto.response.StatusBatchUpdateResponse;
+import com.todolist.service.dto.response.StatusUpdateResultResponse;
+import com.todolist.service.dto.response.TodoCursorListResponse;
+import com.todolist.service.dto.response.TodoDetailResponse;
 import com.todolist.service.dto.response.TodoListResponse;
 import com.todolist.service.dto.response.TodoResponse;
 import com.todolist.service.dto.response.TodoWithDetailResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,11 +52,21 @@ class TodoServiceTest {
 
     private TodoService todoService;
     private TodoRepository todoRepository;
+    private MemberRepository memberRepository;
+    private TodoDetailRepository todoDetailRepository;
+    private TodoVersionTracker todoVersionTracker;
+    private TimelineFanoutWorker timelineFanoutWorker;
 
     @BeforeEach
     void setUp() {
         todoRepository = mock(TodoRepository.class);
-        todoService = new TodoService(todoRepository);
+        memberRepository = mock(MemberRepository.class);
+        todoDetailRepository = mock(TodoDetailRepository.class);
+        todoVersionTracker = new TodoVersionTracker(100);
+        timelineFanoutWorker = mock(TimelineFanoutWorker.class);
+        TodoListCache todoListCache = new TodoListCache(todoVersionTracker, true, 100, 30);
+        todoService = new TodoService(todoRepository, memberRepository, todoDetailRepository, todoListCache, todoVersionTracker,
+                TransactionOperations.withoutTransaction(), timelineFanoutWorker);
     }
 
     /**
@@ -53,12 +78,17 @@ class TodoServiceTest {
         // given
         Member member = buildMember("test@example.com", "password1234");
 
+        ReflectionTestUtils.setField(member, "id", 1L);
+
         TodoRequest request = new TodoRequest("오늘 할 일");
 
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+
         // when
-        TodoResponse response = todoService.createTodo(member, request);
+        TodoResponse response = todoService.createTodo(member.getId(), request);
 
         // then
+        verify(memberRepository, never()).findById(member.getId()); // 회원 조회 없이 참조만 사용
         verify(todoRepository, times(1)).save(any(Todo.class));
 
         assertThat(response.status()).isEqualTo(TodoStatus.NOT_STARTED.getKoreanStatus());
@@ -74,33 +104,30 @@ class TodoServiceTest {
         Member member = buildMember("test@example.com", "password1234");
         ReflectionTestUtils.setField(member, "id", 1L);
 
-        List<Todo> todoList = new ArrayList<>();
-
-        Todo parentTodo = buildTodo(member, "할 일");
-        TodoDetail todoDetail = buildTodoDetail(parentTodo, "세부 할 일");
-        ReflectionTestUtils.setField(parentTodo, "hit", 1L); // 조회수가 1이라 가정
+        List<TodoView> todoList = new ArrayList<>();
 
-        parentTodo.addTodoDetail(todoDetail);
+        TodoView parentTodo = buildTodoView(1L, "할 일", 1L); // 조회수가 1이라 가정
+        parentTodo.details().add(new TodoDetailView(1L, 1L, "세부 할 일", TodoDetailStatus.NOT_STARTED));
         todoList.add(parentTodo);
 
         // 그 외 10개 더 생성, 조회수는 0이라 가정
         for (int i = 0; i < 10; i++) {
-            Todo todo = buildTodo(member, "할 일들");
+            TodoView todo = buildTodoView(i + 2L, "할 일들", 0L);
             todoList.add(todo);
         }
 
         int pageNum = 0;
 
         Pageable pageable = PageRequest.of(pageNum, 10);
-        Page<Todo> todoPage = new PageImpl<>(todoList.subList(0, 10), pageable, todoList.size());
+        Slice<TodoView> todoSlice = new SliceImpl<>(todoList.subList(0, 10), pageable, true);
 
-        when(todoRepository.findByMemberId(member.getId(), pageable)).thenReturn(todoPage);
+        when(todoRepository.findViewSliceByMemberId(member.getId(), pageable)).thenReturn(todoSlice);
 
         // when
-        TodoListResponse response = todoService.readTodoList(member, pageNum);
+        TodoListResponse response = todoService.readTodoList(member.getId(), pageNum);
 
         // then
-        verify(todoRepository, times(1)).findByMemberId(member.getId(), pageable);
+        verify(todoRepository, times(1)).findViewSliceByMemberId(member.getId(), pageable);
 
         assertThat(todoList.size()).isEqualTo(11);
         assertThat(response.todos()).hasSize(10);
@@ -109,12 +136,106 @@ class TodoServiceTest {
         TodoWithDetailResponse parentTodoWithDetailResponse = response.todos().getFirst();
         assertThat(parentTodoWithDetailResponse.todo()).isEqualTo("할 일");
         assertThat(parentTodoWithDetailResponse.hit()).isEqualTo(1L);
+        assertThat(parentTodoWithDetailResponse.detailList()).extracting(TodoDetailResponse::todo).containsExactly("세부 할 일");
 
         TodoWithDetailResponse otherTodoWithDetailResponse = response.todos().get(1);
         assertThat(otherTodoWithDetailResponse.todo()).isEqualTo("할 일들");
         assertThat(otherTodoWithDetailResponse.hit()).isEqualTo(0L);
     }
 
+    @Test
+    @DisplayName("투두가 바뀌기 전까지 같은 페이지는 캐시에서 응답하고, 투두가 바뀌면 다시 조회한다.")
+    void readTodosFromCacheUntilTodoChanges() {
+        // given
+        Member member = buildMember("test@example.com", "password1234");
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<TodoView> todoSlice = new SliceImpl<>(List.of(buildTodoView(1L, "할 일", 0L)), pageable, false);
+
+        when(todoRepository.findViewSliceByMemberId(member.getId(), pageable)).thenReturn(todoSlice);
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+
+        // when
+        todoService.readTodoList(member.getId(), 0);
+        todoService.readTodoList(member.getId(), 0);
+        todoService.readTodoList(2L, 0); // 다른 회원의 목록은 별도로 캐시됨
+
+        todoService.createTodo(member.getId(), new TodoRequest("새 할 일"));
+        todoService.readTodoList(member.getId(), 0);
+
+        // then
+        verify(todoRepository, times(2)).findViewSliceByMemberId(member.getId(), pageable);
+        verify(todoRepository, times(1)).findViewSliceByMemberId(2L, pageable);
+    }
+
+    @Test
+    @DisplayName("투두 목록의 ETag는 목록이 바뀌기 전까지 같고, 투두가 바뀌면 달라진다.")
+    void todoListETagChangesOnlyWhenTodoChanges() {
+        // given
+        Member member = buildMember("test@example.com", "password1234");
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+
+        // when
+        String before = todoService.getTodoListETag(member.getId());
+        String unchanged = todoService.getTodoListETag(member.getId());
+        todoService.createTodo(member.getId(), new TodoRequest("새 할 일"));
+        String after = todoService.getTodoListETag(member.getId());
+
+        // then
+        verify(todoRepository, never()).findViewSliceByMemberId(any(), any()); // ETag 계산에 목록 조회 없음
+        assertThat(before).isEqualTo(unchanged).startsWith("W/\"").endsWith("\""); // 조회수는 버전과 따로 바뀌므로 weak ETag
+        assertThat(after).isNotEqualTo(before);
+        assertThat(todoService.getTodoListETag(2L)).isNotEqualTo(before); // 회원마다 다른 ETag
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 TODO를 조회하면 다음 페이지 요청에 사용할 커서를 함께 받는다.")
+    void readTodosByCursor() {
+        // given
+        Member member = buildMember("test@example.com", "password1234");
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        TodoView latestTodo = buildTodoView(20L, "최신 할 일", 0L);
+        TodoView olderTodo = buildTodoView(19L, "이전 할 일", 0L);
+
+        TodoViewCursorSlice todoSlice = new TodoViewCursorSlice(List.of(latestTodo, olderTodo), 2, olderTodo.id());
+
+        when(todoRepository.findViewSliceByMemberId(member.getId(), null, null, 2)).thenReturn(todoSlice);
+
+        // when
+        TodoCursorListResponse response = todoService.readTodoListByCursor(member.getId(), null, null, 2);
+
+        // then
+        assertThat(response.todos()).extracting(TodoWithDetailResponse::todo).containsExactly("최신 할 일", "이전 할 일");
+        assertThat(response.isLast()).isFalse();
+        assertThat(CursorCodec.decode(response.nextCursor())).isEqualTo(olderTodo.id()); // 마지막으로 받은 투두 이후부터 조회
+    }
+
+    @Test
+    @DisplayName("ID 조회 후 투두가 모두 삭제되어 목록이 비어도 ID 조회에서 읽은 위치로 커서를 만든다.")
+    void readTodosByCursorAfterConcurrentDelete() {
+        // given
+        when(todoRepository.findViewSliceByMemberId(1L, null, null, 2)).thenReturn(new TodoViewCursorSlice(List.of(), 2, 19L));
+
+        // when
+        TodoCursorListResponse response = todoService.readTodoListByCursor(1L, null, null, 2);
+
+        // then
+        assertThat(response.todos()).isEmpty();
+        assertThat(response.isLast()).isFalse();
+        assertThat(CursorCodec.decode(response.nextCursor())).isEqualTo(19L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 TODO 조회를 요청할 경우 예외가 발생한다.")
+    void readTodosByCursorFailedDueToInvalidCursor() {
+        // when & then
+        assertThrows(BadRequestException.class, () -> todoService.readTodoListByCursor(1L, null, "잘못된 커서", 10));
+    }
+
     /**
      * 상태 변경 테스트
      */
@@ -122,22 +243,24 @@ class TodoServiceTest {
     @DisplayName("본인 TODO의 진행 상태를 변경할 수 있다.")
     void updateTodoStatus() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-        ReflectionTestUtils.setField(member, "id", 1L);
-
-        Todo todo = buildTodo(member, "할 일");
+        Long memberId = 1L;
+        Long todoId = 1L;
 
         TodoStatusUpdateRequest request = new TodoStatusUpdateRequest(TodoStatus.IN_PROGRESS);
 
-        Long todoId = todo.getId();
-        when(todoRepository.findById(todoId)).thenReturn(Optional.of(todo));
+        when(todoRepository.updateStatusByIdAndMemberId(todoId, memberId, TodoStatus.IN_PROGRESS)).thenReturn(1);
+        when(todoRepository.findTodoListById(todoId)).thenReturn("할 일");
 
         // when
-        TodoResponse response = todoService.updateTodoStatus(member, todoId, request);
+        TodoResponse response = todoService.updateTodoStatus(memberId, todoId, request);
 
         // then
-        verify(todoRepository, times(1)).findById(todoId);
+        verify(todoRepository, times(1)).updateStatusByIdAndMemberId(todoId, memberId, TodoStatus.IN_PROGRESS);
+        verify(todoRepository, never()).findById(todoId); // 엔티티 조회 없이 UPDATE
+        verify(todoRepository, never()).existsById(todoId);
+        verify(timelineFanoutWorker, never()).todoCreated(any(), any()); // 상태 변경은 타임라인에 다시 넣지 않음
 
+        assertThat(response.todo()).isEqualTo("할 일");
         assertThat(response.status()).isEqualTo("진행 중");
     }
 
@@ -145,37 +268,87 @@ class TodoServiceTest {
     @DisplayName("존재하지 않는 TODO의 상태 변경을 요청할 경우 예외가 발생한다.")
     void updateTodoStatusFailedDueToTodoNotFound() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-
         Long ghostTodoId = 999L;
 
-        when(todoRepository.findById(ghostTodoId)).thenReturn(Optional.empty());
+        when(todoRepository.updateStatusByIdAndMemberId(ghostTodoId, 1L, TodoStatus.IN_PROGRESS)).thenReturn(0);
+        when(todoRepository.existsById(ghostTodoId)).thenReturn(false);
 
         TodoStatusUpdateRequest request = new TodoStatusUpdateRequest(TodoStatus.IN_PROGRESS);
 
         // when & then
-        assertThrows(NotFoundException.class, () -> todoService.updateTodoStatus(member, ghostTodoId, request));
+        assertThrows(NotFoundException.class, () -> todoService.updateTodoStatus(1L, ghostTodoId, request));
     }
 
     @Test
     @DisplayName("다른 사용자의 TODO의 상태 변경을 시도할 경우 예외가 발생한다.")
     void updateTodoStatusFailedDueToForbidden() {
         // given
-        Member other = buildMember("other@example.com", "password1234");
-        ReflectionTestUtils.setField(other, "id", 1L);
-
-        Member me = buildMember("me@example.com", "password1234");
-        ReflectionTestUtils.setField(me, "id", 2L);
+        Long myId = 2L;
+        Long otherTodoId = 1L;
 
-        Todo otherTodo = buildTodo(other, "다른 사람의 할 일");
+        when(todoRepository.updateStatusByIdAndMemberId(otherTodoId, myId, TodoStatus.IN_PROGRESS)).thenReturn(0);
+        when(todoRepository.existsById(otherTodoId)).thenReturn(true);
 
         TodoStatusUpdateRequest request = new TodoStatusUpdateRequest(TodoStatus.IN_PROGRESS);
+        long version = todoVersionTracker.current(myId);
 
-        Long todoId = otherTodo.getId();
-        when(todoRepository.findById(todoId)).thenReturn(Optional.of(otherTodo));
+        // when & then
+        assertThrows(ForbiddenAccessException.class, () -> todoService.updateTodoStatus(myId, otherTodoId, request));
+        assertThat(todoVersionTracker.current(myId)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("여러 TODO의 상태를 한 번에 변경할 수 있고, 변경할 수 없는 항목은 항목별 결과로 알려준다.")
+    void updateTodoStatuses() {
+        // given
+        Long memberId = 1L;
+        List<TodoStatusBatchUpdateRequest> requests = List.of(
+                new TodoStatusBatchUpdateRequest(1L, TodoStatus.COMPLETED),
+                new TodoStatusBatchUpdateRequest(2L, TodoStatus.COMPLETED),
+                new TodoStatusBatchUpdateRequest(3L, TodoStatus.IN_PROGRESS),
+                new TodoStatusBatchUpdateRequest(4L, TodoStatus.COMPLETED), // 다른 사람의 투두
+                new TodoStatusBatchUpdateRequest(999L, TodoStatus.COMPLETED) // 없는 투두
+        );
+
+        when(todoRepository.findOwnerRowsByIdIn(anyCollection())).thenReturn(List.of(
+                new TodoOwnerRow(1L, memberId, TodoStatus.NOT_STARTED),
+                new TodoOwnerRow(2L, memberId, TodoStatus.IN_PROGRESS),
+                new TodoOwnerRow(3L, memberId, TodoStatus.NOT_STARTED),
+                new TodoOwnerRow(4L, 2L, TodoStatus.NOT_STARTED)
+        ));
+
+        long version = todoVersionTracker.current(memberId);
+
+        // when
+        StatusBatchUpdateResponse response = todoService.updateTodoStatuses(memberId, requests);
+
+        // then
+        verify(todoRepository, times(1)).findOwnerRowsByIdIn(anyCollection()); // 소유자 확인 쿼리 1번
+        verify(todoRepository, times(1)).updateStatusByIdInAndMemberId(List.of(1L, 2L), memberId, TodoStatus.COMPLETED); // 상태별 UPDATE 1번
+        verify(todoRepository, times(1)).updateStatusByIdInAndMemberId(List.of(3L), memberId, TodoStatus.IN_PROGRESS);
+
+        assertThat(response.updatedCount()).isEqualTo(3);
+        assertThat(response.results()).extracting(StatusUpdateResultResponse::result).containsExactly(
+                StatusUpdateResultResponse.Result.UPDATED,
+                StatusUpdateResultResponse.Result.UPDATED,
+                StatusUpdateResultResponse.Result.UPDATED,
+                StatusUpdateResultResponse.Result.FORBIDDEN,
+                StatusUpdateResultResponse.Result.NOT_FOUND
+        );
+        assertThat(todoVersionTracker.current(memberId)).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("한 번에 상태를 변경할 수 있는 TODO 개수를 넘으면 예외가 발생한다.")
+    void updateTodoStatusesFailedDueToTooManyItems() {
+        // given
+        List<TodoStatusBatchUpdateRequest> requests = LongStream.rangeClosed(1, 101)
+                .mapToObj(id -> new TodoStatusBatchUpdateRequest(id, TodoStatus.COMPLETED))
+                .toList();
 
         // when & then
-        assertThrows(ForbiddenAccessException.class, () -> todoService.updateTodoStatus(me, todoId, request));
+        assertThrows(BadRequestException.class, () -> todoService.updateTodoStatuses(1L, requests));
+        verify(todoRepository, never()).findOwnerRowsByIdIn(anyCollection());
     }
 
     /**
@@ -185,107 +358,111 @@ class TodoServiceTest {
     @DisplayName("본인의 완료된 TODO를 하나씩 삭제할 수 있다.")
     void deleteTodo() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-        ReflectionTestUtils.setField(member, "id", 1L);
-
-        Todo todo = buildTodo(member, "할 일");
-        todo.updateStatus(TodoStatus.COMPLETED);
-        ReflectionTestUtils.setField(todo, "id", 1L);
+        Long memberId = 1L;
+        List<Long> todoId = List.of(1L);
 
-        List<Long> todoId = List.of(todo.getId());
-
-        when(todoRepository.findAllById(todoId)).thenReturn(List.of(todo));
-        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+        when(todoRepository.findOwnerRowsByIdIn(todoId)).thenReturn(List.of(new TodoOwnerRow(1L, memberId, TodoStatus.COMPLETED)));
+        long version = todoVersionTracker.current(memberId);
 
         // when
-        todoService.deleteTodo(member, todoId);
+        todoService.deleteTodo(memberId, todoId);
 
         // then
-        verify(todoRepository, times(1)).delete(todo);
+        verify(todoDetailRepository, times(1)).deleteByTodoIdInAndMemberIdAndStatus(todoId, memberId, TodoStatus.COMPLETED);
+        verify(todoRepository, times(1)).deleteByIdInAndMemberIdAndStatus(todoId, memberId, TodoStatus.COMPLETED);
+        verify(timelineFanoutWorker, times(1)).todosDeleted(todoId); // 타임라인 항목도 같은 트랜잭션에서 삭제
+        verify(todoRepository, never()).delete(any(Todo.class));
+        assertThat(todoVersionTracker.current(memberId)).isNotEqualTo(version);
     }
 
     @Test
     @DisplayName("본인의 완료된 TODO 여러 개를 한번에 삭제할 수 있다.")
     void deleteTodos() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-        ReflectionTestUtils.setField(member, "id", 1L);
+        Long memberId = 1L;
+        List<Long> todoIds = List.of(1L, 2L);
 
-        Todo todo1 = buildTodo(member, "할 일 1");
-        Todo todo2 = buildTodo(member, "할 일 2");
-        todo1.updateStatus(TodoStatus.COMPLETED);
-        todo2.updateStatus(TodoStatus.COMPLETED);
-        ReflectionTestUtils.setField(todo1, "id", 1L);
-        ReflectionTestUtils.setField(todo2, "id", 2L);
+        when(todoRepository.findOwnerRowsByIdIn(todoIds)).thenReturn(List.of(
+                new TodoOwnerRow(1L, memberId, TodoStatus.COMPLETED),
+                new TodoOwnerRow(2L, memberId, TodoStatus.COMPLETED)
+        ));
 
-        List<Long> todoIds = List.of(todo1.getId(), todo2.getId());
+        // when
+        todoService.deleteTodo(memberId, todoIds);
+
+        // then
+        verify(todoRepository, times(1)).findOwnerRowsByIdIn(todoIds); // 검증 쿼리 1번
+        verify(todoDetailRepository, times(1)).deleteByTodoIdInAndMemberIdAndStatus(todoIds, memberId, TodoStatus.COMPLETED);
+        verify(todoRepository, times(1)).deleteByIdInAndMemberIdAndStatus(todoIds, memberId, TodoStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("한 번에 많은 TODO를 삭제하면 나누어서 삭제한다.")
+    void deleteManyTodosInChunks() {
+        // given
+        Long memberId = 1L;
+        List<Long> todoIds = LongStream.rangeClosed(1, 1200).boxed().toList();
 
-        when(todoRepository.findAllById(todoIds)).thenReturn(List.of(todo1, todo2));
-        when(todoRepository.findById(todo1.getId())).thenReturn(Optional.of(todo1));
-        when(todoRepository.findById(todo2.getId())).thenReturn(Optional.of(todo2));
+        when(todoRepository.findOwnerRowsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> new TodoOwnerRow(id, memberId, TodoStatus.COMPLETED))
+                    .toList();
+        });
 
         // when
-        todoService.deleteTodo(member, todoIds);
+        todoService.deleteTodo(memberId, todoIds);
 
         // then
-        verify(todoRepository, times(1)).delete(todo1);
-        verify(todoRepository, times(1)).delete(todo2);
+        verify(todoRepository, times(3)).findOwnerRowsByIdIn(anyCollection()); // 500 + 500 + 200
+        verify(todoDetailRepository, times(3)).deleteByTodoIdInAndMemberIdAndStatus(anyCollection(), eq(memberId), eq(TodoStatus.COMPLETED));
+        verify(todoRepository, times(3)).deleteByIdInAndMemberIdAndStatus(anyCollection(), eq(memberId), eq(TodoStatus.COMPLETED));
     }
 
     @Test
     @DisplayName("존재하지 않는 TODO를 삭제 요청할 경우 예외가 발생한다.")
     void deleteTodosFailedDueToTodoNotFound() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-        ReflectionTestUtils.setField(member, "id", 1L);
-
         List<Long> ghostTodoId = List.of(999L);
 
-        when(todoRepository.findAllById(ghostTodoId)).thenReturn(List.of());
+        when(todoRepository.findOwnerRowsByIdIn(ghostTodoId)).thenReturn(List.of());
 
         // when & then
-        assertThrows(NotFoundException.class, () -> todoService.deleteTodo(member, ghostTodoId));
+        assertThrows(NotFoundException.class, () -> todoService.deleteTodo(1L, ghostTodoId));
+        verify(todoRepository, never()).deleteByIdInAndMemberIdAndStatus(any(), any(), any());
     }
 
     @Test
     @DisplayName("다른 사용자의 TODO를 삭제 요청할 경우 예외가 발생한다.")
     void deleteTodosFailedDueToForbidden() {
         // given
-        Member other = buildMember("other@example.com", "password1234");
-        ReflectionTestUtils.setField(other, "id", 1L);
-
-        Member me = buildMember("me@example.com", "password1234");
-        ReflectionTestUtils.setField(me, "id", 2L);
-
-        Todo otherTodo = buildTodo(other, "다른 사람의 할 일");
-        ReflectionTestUtils.setField(otherTodo, "id", 1L);
+        Long otherId = 1L;
+        Long myId = 2L;
+        List<Long> todoIds = List.of(1L);
 
-        List<Long> todoIds = List.of(otherTodo.getId());
-
-        when(todoRepository.findAllById(todoIds)).thenReturn(List.of(otherTodo));
-        when(todoRepository.findById(otherTodo.getId())).thenReturn(Optional.of(otherTodo));
+        when(todoRepository.findOwnerRowsByIdIn(todoIds)).thenReturn(List.of(new TodoOwnerRow(1L, otherId, TodoStatus.COMPLETED)));
 
         // when & then
-        assertThrows(ForbiddenAccessException.class, () -> todoService.deleteTodo(me, todoIds));
+        ForbiddenAccessException exception = assertThrows(ForbiddenAccessException.class, () -> todoService.deleteTodo(myId, todoIds));
+        assertThat(exception.getMessage()).isEqualTo("해당 목록에 접근 권한이 없습니다: todo_id = 1");
+        verify(todoRepository, never()).deleteByIdInAndMemberIdAndStatus(any(), any(), any());
     }
 
     @Test
     @DisplayName("완료되지 않은 TODO를 삭제 요청할 경우 예외가 발생한다.")
     void deleteTodosFailedDueToTodoIsNotCompleted() {
         // given
-        Member member = buildMember("test@example.com", "password1234");
-        ReflectionTestUtils.setField(member, "id", 1L);
+        Long memberId = 1L;
+        List<Long> todoIds = List.of(1L, 2L);
 
-        Todo todo = buildTodo(member, "진행 중인 할 일");
-        ReflectionTestUtils.setField(todo, "id", 1L);
-
-        List<Long> todoIds = List.of(todo.getId());
-
-        when(todoRepository.findAllById(todoIds)).thenReturn(List.of(todo));
-        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+        when(todoRepository.findOwnerRowsByIdIn(todoIds)).thenReturn(List.of(
+                new TodoOwnerRow(1L, memberId, TodoStatus.COMPLETED),
+                new TodoOwnerRow(2L, memberId, TodoStatus.IN_PROGRESS)
+        ));
 
         // when & then
-        assertThrows(InvalidDeleteException.class, () -> todoService.deleteTodo(member, todoIds));
+        assertThrows(InvalidDeleteException.class, () -> todoService.deleteTodo(memberId, todoIds));
+        verify(todoRepository, never()).deleteByIdInAndMemberIdAndStatus(any(), any(), any()); // 하나라도 실패하면 아무것도 지우지 않음
     }
 
     /**
@@ -306,11 +483,7 @@ class TodoServiceTest {
                 .build();
     }
 
-    private TodoDetail buildTodoDetail(Todo parentTodo, String content) {
-        return TodoDetail.builder()
-                .todo(parentTodo)
-                .detailList(content)
-                .status(TodoDetailStatus.NOT_STARTED)
-                .build();
+    private TodoView buildTodoView(Long id, String content, Long hit) {
+        return new TodoView(id, hit, content, TodoStatus.NOT_STARTED, new ArrayList<>());
     }
 }
\ No newline at end of file